@@ -0,0 +1,87 @@
+package com.infonest.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Har authenticated request ka filter path: header se token, cache se principal, SecurityContext set.
+ * Cache hit (normal case), garbage token (har baar HMAC verify, cache nahi hota) aur bina token wali request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "MySuperSecretKeyForInfoNestProject2025MakeItLonger";
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest validRequest;
+    private MockHttpServletRequest invalidRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setup() {
+        JwtUtils jwtUtils = new JwtUtils(JwtKeyRing.of(Map.of(JwtKeyRing.LEGACY_KID, SECRET), JwtKeyRing.LEGACY_KID),
+                86400000);
+        JwtTokenCache tokenCache = new JwtTokenCache();
+        ReflectionTestUtils.setField(tokenCache, "jwtUtils", jwtUtils);
+        ReflectionTestUtils.setField(tokenCache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenCache, "maxSize", 10000L);
+        tokenCache.init();
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtTokenCache", tokenCache);
+
+        String token = jwtUtils.generateToken("faculty@banasthali.in", "FACULTY", "CODING_CLUB");
+        validRequest = request("Bearer " + token);
+        invalidRequest = request("Bearer " + token.substring(0, token.length() - 8) + "AAAAAAAA");
+        anonymousRequest = request(null);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object cachedToken() throws Exception {
+        return filter(validRequest);
+    }
+
+    @Benchmark
+    public Object invalidToken() throws Exception {
+        return filter(invalidRequest);
+    }
+
+    @Benchmark
+    public Object noToken() throws Exception {
+        return filter(anonymousRequest);
+    }
+
+    private Object filter(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        try {
+            filter.doFilter(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/faculty/my-events");
+        request.setServletPath("/api/v1/faculty/my-events");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
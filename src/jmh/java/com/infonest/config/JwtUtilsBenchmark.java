@@ -0,0 +1,96 @@
+package com.infonest.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generate/verify: precomputed key ring vs purana "har call par key + parser banao" path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private static final String SECRET = "MySuperSecretKeyForInfoNestProject2025MakeItLonger";
+
+    private JwtUtils jwtUtils;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setup() {
+        jwtUtils = new JwtUtils(JwtKeyRing.of(Map.of(JwtKeyRing.LEGACY_KID, SECRET), JwtKeyRing.LEGACY_KID), 86400000);
+        token = jwtUtils.generateToken("student@banasthali.in", "FACULTY", "CODING_CLUB");
+        // Signature ke beech ka ek char badlo (aakhri char ke kuch bits unused hote hain)
+        int at = token.length() - 5;
+        tamperedToken = token.substring(0, at) + (token.charAt(at) == 'A' ? 'B' : 'A') + token.substring(at + 1);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken("student@banasthali.in", "FACULTY", "CODING_CLUB");
+    }
+
+    @Benchmark
+    public JwtPrincipal parseToken() {
+        return jwtUtils.parseToken(token);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtils.extractEmail(token);
+    }
+
+    @Benchmark
+    public String extractRole() {
+        return jwtUtils.extractRole(token);
+    }
+
+    @Benchmark
+    public String extractClubId() {
+        return jwtUtils.extractClubId(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtils.validateToken(token);
+    }
+
+    // Signature galat - exception path (garbage / tampered tokens)
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtUtils.validateToken(tamperedToken);
+    }
+
+    // Baseline: pehle wala code - har call par Keys.hmacShaKeyFor aur naya parser
+    @Benchmark
+    public String generateTokenRebuildingKey() {
+        return Jwts.builder()
+                .subject("student@banasthali.in")
+                .claim("role", "FACULTY")
+                .claim("clubId", "CODING_CLUB")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 86400000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    @Benchmark
+    public Claims parseTokenRebuildingParser() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
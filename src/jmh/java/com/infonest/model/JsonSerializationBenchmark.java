@@ -0,0 +1,87 @@
+package com.infonest.model;
+
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event / Registration lists ka Jackson serialization - catalog, my-events aur submissions responses jitne size par.
+ * Registrations mein formData asli form jaisa JSON string hai (escape hoke jaata hai).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final TypeReference<List<Event>> EVENT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"20", "200", "2000"})
+    public int size;
+
+    // Spring Boot wala mapper bhi JsonMapper.builder() se hi banta hai (koi custom config nahi)
+    private JsonMapper jsonMapper;
+    private List<Event> events;
+    private List<Registration> registrations;
+    private byte[] eventsJson;
+
+    @Setup
+    public void setup() {
+        jsonMapper = JsonMapper.builder().build();
+        events = new ArrayList<>(size);
+        registrations = new ArrayList<>(size);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < size; i++) {
+            Event event = new Event();
+            event.setEventId((long) i + 1);
+            event.setClubId("CLUB_" + (i % 12));
+            event.setVenueId("AUDITORIUM_" + (i % 5));
+            event.setEventName("Annual Tech Fest Workshop " + i);
+            event.setDescription("Hands-on session covering the basics, followed by a short quiz and networking. "
+                    + "Bring your laptop and college ID. Seats are limited, register before the deadline.");
+            event.setEventDate(today.plusDays(10 + i % 60));
+            event.setEventTime(LocalTime.of(10 + i % 8, 30));
+            event.setDeadline(today.plusDays(5 + i % 60));
+            event.setRegistrationFormLink("https://forms.example.com/infonest/event-" + i);
+            event.setCapacity(i % 3 == 0 ? null : 100 + i % 400);
+            events.add(event);
+
+            Registration registration = new Registration();
+            registration.setRegId((long) i + 1);
+            registration.setEventId((long) (i % 50) + 1);
+            registration.setUserId((long) i + 1000);
+            registration.setStatus(i % 4 == 0 ? "APPROVED" : "APPLIED");
+            registration.setFormData("{\"fullName\":\"Student " + i + "\",\"rollNo\":\"BTBTC2" + (1000 + i)
+                    + "\",\"branch\":\"CSE\",\"year\":\"" + (1 + i % 4) + "\",\"phone\":\"98765" + (10000 + i)
+                    + "\",\"whyJoin\":\"I want to learn, contribute to projects and meet people with similar interests.\"}");
+            registration.setSubmissionDate(LocalDateTime.now().minusHours(i));
+            registrations.add(registration);
+        }
+        eventsJson = jsonMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] writeEvents() {
+        return jsonMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] writeRegistrations() {
+        return jsonMapper.writeValueAsBytes(registrations);
+    }
+
+    @Benchmark
+    public List<Event> readEvents() {
+        return jsonMapper.readValue(eventsJson, EVENT_LIST);
+    }
+}
@@ -0,0 +1,49 @@
+package com.infonest.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signup / login ke pehle wale validators (bcrypt se pehle har request par chalte hain).
+ * Password: valid, bina uppercase (ek regex), bina special char (dono regex).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthServiceValidationBenchmark {
+
+    // Alag state classes, taaki email benchmark password params se guna na ho (aur ulta)
+    @State(Scope.Benchmark)
+    public static class Emails {
+        @Param({"student.name@banasthali.in", "Student.Name@GMAIL.com", "someone@yahoo.com"})
+        public String email;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Passwords {
+        @Param({"Secret@1234", "secret@1234", "Secret12345"})
+        public String password;
+    }
+
+    private AuthService authService;
+
+    @Setup
+    public void setup() {
+        // Validators kisi injected bean ko nahi chhoote
+        authService = new AuthService();
+    }
+
+    @Benchmark
+    public boolean emailDomain(Emails emails) {
+        return authService.isValidEmailDomain(emails.email);
+    }
+
+    @Benchmark
+    public String passwordStrength(Passwords passwords) {
+        return authService.validatePassword(passwords.password);
+    }
+}
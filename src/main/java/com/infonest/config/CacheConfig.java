@@ -0,0 +1,10 @@
+package com.infonest.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Cache manager Spring Boot khud banata hai (spring.cache.* properties), yahan sirf caching on hai
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,32 @@
+package com.infonest.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Application ke DataSource ko datasource-proxy se wrap karta hai, taaki har SQL statement (Hibernate,
+ * JdbcTemplate, exports) SqlStatsListener se guzre. Hikari pool wahi rehta hai - metrics aur unwrap()
+ * proxy ke through original tak pahunchte hain.
+ */
+@Component
+public class DataSourceInstrumentation implements BeanPostProcessor {
+
+    @Value("${infonest.sql.slow-ms:200}")
+    private long slowMs;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new SqlStatsListener(slowMs))
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,31 @@
+package com.infonest.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Hikari pool connection-timeout tak connection na de paaye (overload) to 500 ki jagah 503 + Retry-After.
+ * Virtual threads ke saath request limit pool hi hai, isliye client ko saaf "baad mein try karo" milna chahiye.
+ */
+@RestControllerAdvice
+public class DatabaseBusyHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseBusyHandler.class);
+
+    @ExceptionHandler({ CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class })
+    public ResponseEntity<Map<String, String>> databaseBusy(RuntimeException e) {
+        log.warn("No database connection available: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "Server is busy, please retry in a moment."));
+    }
+}
@@ -19,7 +19,10 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired
-    private JwtUtils jwtUtils;
+    private JwtTokenCache jwtTokenCache;
+
+    @Autowired
+    private StreamTicketStore streamTicketStore;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -33,25 +36,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String email = null;
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            try {
-                email = jwtUtils.extractEmail(token);
-            } catch (Exception e) {
-                logger.error("Unable to extract email from token: " + e.getMessage());
+        JwtPrincipal principal = null;
+        boolean credentialsSent = false;
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                // Ek hi parse: signature verify + saare claims (cache hit par parse bhi nahi)
+                principal = jwtTokenCache.resolve(authHeader.substring(7));
+                credentialsSent = true;
+            } else if (isStreamPath(path) && request.getParameter("ticket") != null) {
+                // Browser EventSource / download link headers nahi bhej sakte - sirf SSE streams aur exports par
+                // single-use ticket query param mein (JWT kabhi URL mein nahi)
+                principal = streamTicketStore.redeem(request.getParameter("ticket"));
+                credentialsSent = true;
             }
         }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtils.validateToken(token)) {
-                String role = jwtUtils.extractRole(token);
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role.toUpperCase());
+        if (credentialsSent) {
+            if (principal == null) {
+                logger.debug("Rejected invalid or expired JWT / stream ticket");
+            } else if (principal.email() != null && principal.role() != null) {
+                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + principal.role().toUpperCase());
 
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        email,
+                        principal,
                         null,
                         Collections.singletonList(authority)
                 );
@@ -63,4 +70,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private static boolean isStreamPath(String path) {
+        return path.startsWith("/api/v1/faculty/stream/") || path.startsWith("/api/v1/student/stream/")
+                || path.startsWith("/api/v1/faculty/export/");
+    }
+}
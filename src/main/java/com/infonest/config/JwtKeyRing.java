@@ -0,0 +1,112 @@
+package com.infonest.config;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Signing keys ka immutable snapshot: kid -> key, active kid, aur in keys par bana hua thread-safe parser.
+ * Rotation par naya ring banta hai aur JwtUtils atomically swap karta hai - ek baar bana ring kabhi badalta nahi.
+ */
+public final class JwtKeyRing {
+
+    // Purane tokens (kid header ke bina) isi kid wali key se verify hote hain
+    public static final String LEGACY_KID = "default";
+
+    private final Map<String, SecretKey> keys;
+    private final String activeKid;
+    private final SecretKey activeKey;
+    private final JwtParser parser;
+
+    private JwtKeyRing(Map<String, SecretKey> keys, String activeKid) {
+        this.keys = Collections.unmodifiableMap(keys);
+        this.activeKid = activeKid;
+        this.activeKey = keys.get(activeKid);
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyFor(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @param secrets   kid -> raw secret (UTF-8, kam se kam 256 bits)
+     * @param activeKid naye tokens isi key se sign honge
+     */
+    public static JwtKeyRing of(Map<String, String> secrets, String activeKid) {
+        if (secrets == null || secrets.isEmpty()) {
+            throw new IllegalArgumentException("At least one JWT signing key must be configured");
+        }
+        if (activeKid == null || !secrets.containsKey(activeKid)) {
+            throw new IllegalArgumentException("Active JWT key id '" + activeKid + "' is not among the configured keys");
+        }
+
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        secrets.forEach((kid, secret) -> keys.put(kid, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))));
+        return new JwtKeyRing(keys, activeKid);
+    }
+
+    private Key keyFor(String kid) {
+        if (kid == null) {
+            SecretKey legacy = keys.get(LEGACY_KID);
+            return legacy != null ? legacy : activeKey;
+        }
+        SecretKey key = keys.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT signing key id: " + kid);
+        }
+        return key;
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public SecretKey getActiveKey() {
+        return activeKey;
+    }
+
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    public Set<String> getKeyIds() {
+        return keys.keySet();
+    }
+
+    /**
+     * Jo kids dono rings mein hain par unka secret badal gaya - un kids ke purane tokens ab valid nahi.
+     */
+    public Set<String> changedKidsSince(JwtKeyRing previous) {
+        Set<String> changed = new LinkedHashSet<>();
+        keys.forEach((kid, key) -> {
+            SecretKey old = previous.keys.get(kid);
+            if (old != null && !old.equals(key)) {
+                changed.add(kid);
+            }
+        });
+        return changed;
+    }
+
+    /**
+     * Same keys aur same active kid ho to reload ko no-op maana jaata hai.
+     */
+    public boolean sameKeysAs(JwtKeyRing other) {
+        return other != null && activeKid.equals(other.activeKid) && keys.equals(other.keys);
+    }
+}
@@ -0,0 +1,10 @@
+package com.infonest.config;
+
+import java.util.Set;
+
+/**
+ * JwtUtils naya key ring activate karne ke baad ye event publish karta hai.
+ * removedKids (key hatayi gayi) ya changedKids (usi kid ke neeche naya secret) ke tokens ab valid nahi hain.
+ */
+public record JwtKeysRotatedEvent(String activeKid, Set<String> removedKids, Set<String> changedKids) {
+}
@@ -0,0 +1,19 @@
+package com.infonest.config;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Verified token ka typed view - ek baar parse karke poori request mein reuse hota hai.
+ */
+public record JwtPrincipal(String email, String role, String clubId, Instant expiresAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
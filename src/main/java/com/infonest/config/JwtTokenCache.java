@@ -0,0 +1,119 @@
+package com.infonest.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verified tokens ka bounded cache (key = raw token string).
+ * Har entry apne token ke "exp" claim tak hi zinda rehti hai, isliye expired token kabhi cache se nahi milta.
+ * Invalid tokens cache nahi hote, taaki garbage tokens se cache pollute na ho.
+ */
+@Component
+public class JwtTokenCache {
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${infonest.jwt.cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<String, JwtPrincipal> cache;
+
+    // Cache miss par signature verify + claims parse ka time (valid / invalid alag)
+    private Timer validParse;
+    private Timer invalidParse;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.tokens");
+        validParse = parseTimer("valid");
+        invalidParse = parseTimer("invalid");
+    }
+
+    /**
+     * Token ka principal return karta hai - cache hit par koi HMAC verification nahi hoti.
+     * Invalid/expired token par null.
+     */
+    public JwtPrincipal resolve(String token) {
+        JwtPrincipal cached = cache.getIfPresent(token);
+        if (cached != null) {
+            // Caffeine expiry best-effort hai, isliye exp dobara check karte hain
+            return cached.isExpired(Instant.now()) ? null : cached;
+        }
+
+        JwtPrincipal principal;
+        long started = System.nanoTime();
+        try {
+            principal = jwtUtils.parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidParse.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return null;
+        }
+        validParse.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        if (principal.expiresAt() != null) {
+            cache.put(token, principal);
+        }
+        return principal;
+    }
+
+    private Timer parseTimer(String result) {
+        return Timer.builder("infonest.jwt.parse")
+                .description("JWT signature verification and claims parsing on a token cache miss")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // Key material kuch bhi badla (kid hata, usi kid ka secret badla, kid-less tokens ki key badli) to cached
+    // principals par bharosa nahi - rotation kabhi-kabhi hota hai, isliye poora cache clear
+    @EventListener
+    public void onKeysRotated(JwtKeysRotatedEvent event) {
+        invalidateAll();
+    }
+
+    private static final class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, JwtPrincipal principal, long currentTime) {
+            long remaining = Duration.between(Instant.now(), principal.expiresAt()).toNanos();
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
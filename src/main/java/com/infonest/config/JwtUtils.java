@@ -1,76 +1,177 @@
 package com.infonest.config;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 
 @Component
 public class JwtUtils {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtUtils.class);
+
     @Value("${infonest.jwt.secret}")
     private String jwtSecret;
 
     @Value("${infonest.jwt.expiration}")
     private int jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    @Value("${infonest.jwt.active-kid:" + JwtKeyRing.LEGACY_KID + "}")
+    private String activeKid;
+
+    // Optional properties file (active-kid=..., keys.<kid>=...) - rotation bina restart ke yahin se hoti hai
+    @Value("${infonest.jwt.keys-file:}")
+    private String keysFile;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Key aur parser startup par ek hi baar bante hain; rotation par poora ring atomically swap hota hai
+    private volatile JwtKeyRing keyRing;
+
+    public JwtUtils() {
+    }
+
+    // Benchmarks/tests ke liye: Spring context ke bina ready-made ring ke saath
+    JwtUtils(JwtKeyRing keyRing, int jwtExpirationMs) {
+        this.keyRing = keyRing;
+        this.jwtExpirationMs = jwtExpirationMs;
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        keyRing = loadKeyRing();
+        log.info("JWT signing keys loaded: active kid '{}', {} key(s)", keyRing.getActiveKid(), keyRing.getKeyIds().size());
+    }
+
+    /**
+     * Configuration (aur keys-file) dobara padh kar key ring refresh karta hai.
+     * Kuch nahi badla to no-op; galat config par purana ring hi chalta rehta hai.
+     */
+    @Scheduled(fixedDelayString = "${infonest.jwt.keys-reload-ms:60000}",
+            initialDelayString = "${infonest.jwt.keys-reload-ms:60000}")
+    public void reloadKeys() {
+        JwtKeyRing current = keyRing;
+        JwtKeyRing reloaded;
+        try {
+            reloaded = loadKeyRing();
+        } catch (RuntimeException | IOException e) {
+            log.error("JWT key reload failed, keeping active kid '{}': {}", current.getActiveKid(), e.getMessage());
+            return;
+        }
+        if (reloaded.sameKeysAs(current)) {
+            return;
+        }
+
+        keyRing = reloaded;
+
+        Set<String> removed = new HashSet<>(current.getKeyIds());
+        removed.removeAll(reloaded.getKeyIds());
+        Set<String> changed = reloaded.changedKidsSince(current);
+        log.info("JWT signing keys rotated: active kid '{}' -> '{}', removed {}, secret changed {}",
+                current.getActiveKid(), reloaded.getActiveKid(), removed, changed);
+        eventPublisher.publishEvent(new JwtKeysRotatedEvent(reloaded.getActiveKid(), removed, changed));
+    }
+
+    private JwtKeyRing loadKeyRing() throws IOException {
+        Map<String, String> secrets = new LinkedHashMap<>();
+        // Purana single secret "default" kid ke roop mein hamesha available rehta hai (jab tak override na ho)
+        if (jwtSecret != null && !jwtSecret.isBlank()) {
+            secrets.put(JwtKeyRing.LEGACY_KID, jwtSecret);
+        }
+        secrets.putAll(Binder.get(environment)
+                .bind("infonest.jwt.keys", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of()));
+
+        String active = activeKid;
+        if (keysFile != null && !keysFile.isBlank()) {
+            Properties props = new Properties();
+            try (InputStream in = Files.newInputStream(Path.of(keysFile))) {
+                props.load(in);
+            }
+            for (String name : props.stringPropertyNames()) {
+                if (name.startsWith("keys.")) {
+                    secrets.put(name.substring("keys.".length()), props.getProperty(name));
+                }
+            }
+            active = props.getProperty("active-kid", active);
+        }
+        return JwtKeyRing.of(secrets, active);
     }
 
     public String generateToken(String email, String role, String clubId) {
+        JwtKeyRing ring = keyRing;
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .header().keyId(ring.getActiveKid()).and()
                 .subject(email)
                 .claim("role", role) // Role yahan claim mein save ho raha hai
                 .claim("clubId", clubId) // ClubId for faculty authorization
-                .issuedAt(new Date())
-                .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + jwtExpirationMs))
+                .signWith(ring.getActiveKey())
                 .compact();
     }
 
+    /**
+     * Token ko ek hi baar verify karke saare claims ek saath nikalta hai.
+     * Invalid/expired token par JwtException ya IllegalArgumentException throw hota hai.
+     */
+    public JwtPrincipal parseToken(String token) {
+        Claims claims = keyRing.getParser()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("clubId", String.class),
+                expiration != null ? expiration.toInstant() : null);
+    }
+
     // NEW: Ye method filter ke liye bahut zaroori hai
     public String extractRole(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class); // Token se role nikalne ke liye
+        return parseToken(token).role(); // Token se role nikalne ke liye
     }
 
     // Extract clubId from token for faculty authorization
     public String extractClubId(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("clubId", String.class);
+        return parseToken(token).clubId();
     }
 
     public String extractEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseToken(token).email();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parseToken(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+}
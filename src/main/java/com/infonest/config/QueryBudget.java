@@ -0,0 +1,24 @@
+package com.infonest.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Controller endpoint ka SQL budget. Runtime par RequestMetricsFilter budget se zyada statements ya ek hi
+ * statement shape ka `maxRepeats` se zyada chalna (N+1) warning + infonest.sql.budget.exceeded metric mein
+ * dikhata hai; tests QueryBudgetAssert se isi annotation ke against fail hote hain.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    // Ek request mein max SQL statements
+    int statements();
+
+    // Same shape ki max executions (isse zyada = loop mein query)
+    int maxRepeats() default 2;
+}
@@ -0,0 +1,160 @@
+package com.infonest.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Har request ke liye (latency timer Spring ka http.server.requests deta hai):
+ * - infonest.http.sql.statements / infonest.http.sql.time{method,uri,handler}: DataSource par kitne statements
+ *   aur kul kitna DB time (SqlRequestStats, datasource proxy se - JPA aur JdbcTemplate dono)
+ * - infonest.http.allocated.bytes{method,uri}: request thread ne kitni memory allocate ki (JVM support kare to)
+ * - N+1 / slow / budget: ek hi statement shape baar baar chali (repeat-threshold, ya handler ke @QueryBudget
+ *   ka maxRepeats), koi statement slow-ms se lambi chali, ya @QueryBudget se zyada statements - WARN log
+ *   handler ke naam ke saath aur infonest.sql.repeated / slow / budget.exceeded{handler} counters
+ * - sampled structured log "com.infonest.requests": sample-rate ke hisaab se, aur har slow / 5xx request
+ *
+ * uri tag route template hai (/api/v1/faculty/submissions/{clubId}/page), raw path nahi - cardinality bounded.
+ * Async requests (SSE, exports) yahan record nahi hote; unka thread request ke baad bhi chalta rehta hai.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+    private static final Logger requestLog = LoggerFactory.getLogger("com.infonest.requests");
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${infonest.request-log.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${infonest.request-log.slow-ms:1000}")
+    private long slowMs;
+
+    @Value("${infonest.sql.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long allocatedBefore = allocatedBytes();
+        long started = System.nanoTime();
+        SqlRequestStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats sql = SqlRequestStats.stop();
+            if (!isAsyncStarted(request)) {
+                record(request, response, sql, (System.nanoTime() - started) / 1_000_000,
+                        allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, SqlRequestStats sql, long durationMs,
+            long allocated) {
+        String method = request.getMethod();
+        String uri = uriTemplate(request);
+        HandlerMethod handlerMethod = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+                instanceof HandlerMethod hm ? hm : null;
+        String handler = handlerMethod != null
+                ? handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName()
+                : "none";
+        Tags tags = Tags.of("method", method, "uri", uri, "handler", handler);
+
+        DistributionSummary.builder("infonest.http.sql.statements")
+                .description("SQL statements executed on the DataSource per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(sql.statements());
+        Timer.builder("infonest.http.sql.time")
+                .description("Total time spent in SQL statements per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(sql.totalNanos(), TimeUnit.NANOSECONDS);
+        if (allocated >= 0) {
+            DistributionSummary.builder("infonest.http.allocated.bytes")
+                    .description("Heap bytes allocated by the request thread per HTTP request")
+                    .baseUnit("bytes")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .record(allocated);
+        }
+        checkQueries(handler, handlerMethod != null ? handlerMethod.getMethodAnnotation(QueryBudget.class) : null, sql);
+
+        int status = response.getStatus();
+        if (status >= 500 || durationMs >= slowMs || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            requestLog.atInfo()
+                    .addKeyValue("method", method)
+                    .addKeyValue("uri", uri)
+                    .addKeyValue("handler", handler)
+                    .addKeyValue("status", status)
+                    .addKeyValue("durationMs", durationMs)
+                    .addKeyValue("sqlStatements", sql.statements())
+                    .addKeyValue("sqlMs", sql.totalNanos() / 1_000_000)
+                    .addKeyValue("allocatedBytes", allocated)
+                    .log("request completed");
+        }
+    }
+
+    private void checkQueries(String handler, QueryBudget budget, SqlRequestStats sql) {
+        int threshold = budget != null ? budget.maxRepeats() + 1 : repeatThreshold;
+        Map<String, Integer> repeated = sql.repeatedShapes(threshold);
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("infonest.sql.repeated", "handler", handler).increment();
+            repeated.forEach((shape, count) ->
+                    log.warn("Possible N+1 in {}: same statement ran {} times: {}", handler, count, shape));
+        }
+        if (!sql.slowStatements().isEmpty()) {
+            meterRegistry.counter("infonest.sql.slow", "handler", handler).increment(sql.slowStatements().size());
+            sql.slowStatements().forEach((shape, ms) -> log.warn("Slow SQL in {} ({} ms): {}", handler, ms, shape));
+        }
+        if (budget != null && sql.statements() > budget.statements()) {
+            meterRegistry.counter("infonest.sql.budget.exceeded", "handler", handler).increment();
+            log.warn("{} ran {} SQL statements, budget is {}", handler, sql.statements(), budget.statements());
+        }
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    // -1 = JVM per-thread allocation nahi batata (ya virtual thread)
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.infonest.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Ek HTTP request (ya test capture) mein DataSource par chale SQL statements: ginti, kul DB time, slow
+ * statements aur har statement "shape" kitni baar chali. Shape = literals aur IN-lists hata kar normalized SQL,
+ * taaki loop mein alag ids ke saath chali same query ek hi shape mein gini jaaye (N+1).
+ *
+ * Thread-local: RequestMetricsFilter start/stop karta hai, SqlStatsListener (DataSource proxy) record.
+ * Request ke bahar (schedulers, background flusher, async exports) kuch record nahi hota.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statements;
+    private long totalNanos;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private final Map<String, Long> slowStatements = new LinkedHashMap<>();
+
+    public static SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * @return is thread ka chalu capture, ya null
+     */
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return band hua capture (start() nahi hua tha to khaali)
+     */
+    public static SqlRequestStats stop() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats != null ? stats : new SqlRequestStats();
+    }
+
+    void record(String sql, long nanos, boolean slow) {
+        statements++;
+        totalNanos += nanos;
+        String shape = shapeOf(sql);
+        shapes.merge(shape, 1, Integer::sum);
+        if (slow) {
+            slowStatements.merge(shape, nanos / 1_000_000, Math::max);
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return shape -> count, sirf wo shapes jo kam se kam `threshold` baar chali (count ke ulte order mein)
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    /**
+     * @return slow statements ki shape -> sabse lamba run (ms)
+     */
+    public Map<String, Long> slowStatements() {
+        return slowStatements;
+    }
+
+    public static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
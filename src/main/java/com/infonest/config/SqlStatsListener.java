@@ -0,0 +1,50 @@
+package com.infonest.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * DataSource proxy har statement execution ke aas-paas call karta hai (JPA, JdbcTemplate sab).
+ * Request chal rahi ho to SqlRequestStats mein record; request ke bahar sirf slow statements ka warning.
+ * Batch execution ek round trip hai, isliye ek statement gina jaata hai.
+ */
+public class SqlStatsListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsListener.class);
+
+    // beforeQuery aur afterQuery same thread par - nesting nahi hoti
+    private static final ThreadLocal<long[]> STARTED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final long slowNanos;
+
+    public SqlStatsListener(long slowMs) {
+        this.slowNanos = slowMs * 1_000_000;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        STARTED.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long nanos = System.nanoTime() - STARTED.get()[0];
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        String sql = queryInfoList.get(0).getQuery();
+        boolean slow = nanos >= slowNanos;
+
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.record(sql, nanos, slow);
+        } else if (slow) {
+            log.warn("Slow SQL outside a request ({} ms): {}", nanos / 1_000_000, SqlRequestStats.shapeOf(sql));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.infonest.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * SSE streams aur export downloads ke liye short-lived, single-use tickets.
+ * EventSource / download link header nahi bhej sakte, par poora JWT URL mein jaaye to access logs, proxy logs
+ * aur browser history mein 15 minute tak chalne wala token pada rehta hai. Isliye client pehle (Bearer header ke
+ * saath) ek opaque ticket leta hai aur URL mein sirf wahi jaata hai - ~30 sec valid aur pehli baar use hote hi khatam.
+ * In-memory hai: ticket usi instance par redeem hona chahiye jahan bana (sticky LB), warna client naya le leta hai.
+ */
+@Component
+public class StreamTicketStore {
+
+    private record Ticket(JwtPrincipal principal, Instant expiresAt) {
+    }
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Value("${infonest.stream-ticket.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${infonest.stream-ticket.max-entries:100000}")
+    private long maxEntries;
+
+    private Cache<String, Ticket> tickets;
+
+    @PostConstruct
+    void init() {
+        tickets = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public String issue(JwtPrincipal principal) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, new Ticket(principal, Instant.now().plus(ttl)));
+        return ticket;
+    }
+
+    /**
+     * Ticket ko atomically hata kar uska principal deta hai - do requests ek ticket se nahi chal sakti.
+     * Anjaan / expired / pehle use hua ticket, ya beech mein JWT hi expire ho gaya ho, to null.
+     */
+    public JwtPrincipal redeem(String ticket) {
+        Ticket redeemed = tickets.asMap().remove(ticket);
+        Instant now = Instant.now();
+        // Caffeine expiry best-effort hai, isliye expiresAt dobara check karte hain
+        if (redeemed == null || !now.isBefore(redeemed.expiresAt()) || redeemed.principal().isExpired(now)) {
+            return null;
+        }
+        return redeemed.principal();
+    }
+}
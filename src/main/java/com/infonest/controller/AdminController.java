@@ -1,19 +1,35 @@
 package com.infonest.controller;
 
+import com.infonest.config.QueryBudget;
+import com.infonest.dto.CacheRegionStats;
+import com.infonest.dto.EventFilter;
+import com.infonest.dto.EventPage;
+import com.infonest.dto.StatsReconciliationReport;
+import com.infonest.dto.UserSummary;
 import com.infonest.model.Club;
 import com.infonest.model.Event;
 import com.infonest.model.User;
 import com.infonest.repository.ClubRepository;
 import com.infonest.repository.EventRepository;
 import com.infonest.repository.UserRepository;
+import com.infonest.service.EventStatsReconciler;
+import com.infonest.service.CatalogChangedEvent;
+import com.infonest.service.ClubOwnershipIndex;
+import com.infonest.service.EventListingService;
+import com.infonest.service.SecondLevelCacheStats;
+import com.infonest.service.SparseFields;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -29,6 +45,24 @@ public class AdminController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EventStatsReconciler eventStatsReconciler;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EventListingService eventListingService;
+
+    @Autowired
+    private ClubOwnershipIndex clubOwnershipIndex;
+
+    @Autowired
+    private SecondLevelCacheStats secondLevelCacheStats;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
     // ==================== CLUB MANAGEMENT ====================
 
     // 1. GET ALL CLUBS
@@ -47,6 +81,7 @@ public class AdminController {
         }
 
         clubRepository.save(club);
+        eventPublisher.publishEvent(CatalogChangedEvent.clubs(club.getClubId()));
         return ResponseEntity.ok("Club '" + club.getClubName() + "' added successfully!");
     }
 
@@ -64,6 +99,7 @@ public class AdminController {
         club.setClubName(clubDetails.getClubName());
         club.setDescription(clubDetails.getDescription());
         clubRepository.save(club);
+        eventPublisher.publishEvent(CatalogChangedEvent.clubs(clubId));
 
         return ResponseEntity.ok("Club updated successfully!");
     }
@@ -77,15 +113,33 @@ public class AdminController {
         }
 
         clubRepository.deleteById(clubId);
+        eventPublisher.publishEvent(CatalogChangedEvent.clubs(clubId));
         return ResponseEntity.ok("Club deleted successfully!");
     }
 
     // ==================== EVENT MANAGEMENT ====================
 
-    // 5. GET ALL EVENTS (including hidden)
+    // 5. GET ALL EVENTS (including hidden; description sirf jab fields= mein maanga ho)
     @GetMapping("/events")
-    public ResponseEntity<List<Event>> getAllEvents() {
-        return ResponseEntity.ok(eventRepository.findAll());
+    public ResponseEntity<List<?>> getAllEvents(@RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(eventListingService.listAll(new EventFilter(), fields));
+    }
+
+    // 5b. EVENTS PAGE (cursor-based, filters: club, date range, hidden; description sirf jab fields= mein maanga ho)
+    @GetMapping("/events/page")
+    public ResponseEntity<EventPage<?>> getEventsPage(@RequestParam(required = false) String clubId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Boolean hidden,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields) {
+        try {
+            return ResponseEntity.ok(eventListingService.listEvents(
+                    new EventFilter(clubId, from, to, hidden), cursor, size, fields));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 6. ADD EVENT (for any club)
@@ -116,11 +170,13 @@ public class AdminController {
         }
 
         eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.events(event.getClubId()));
         return ResponseEntity.ok("Event '" + event.getEventName() + "' added successfully!");
     }
 
     // 7. UPDATE EVENT
     @PutMapping("/events/{eventId}")
+    @QueryBudget(statements = 5)
     public ResponseEntity<String> updateEvent(@PathVariable Long eventId, @RequestBody Event eventDetails) {
         Event event = eventRepository.findById(eventId).orElse(null);
 
@@ -148,6 +204,7 @@ public class AdminController {
         }
 
         // Update all fields
+        String previousClubId = event.getClubId();
         event.setClubId(eventDetails.getClubId());
         event.setEventName(eventDetails.getEventName());
         event.setDescription(eventDetails.getDescription());
@@ -156,20 +213,30 @@ public class AdminController {
         event.setEventTime(eventDetails.getEventTime());
         event.setDeadline(eventDetails.getDeadline());
         event.setRegistrationFormLink(eventDetails.getRegistrationFormLink());
+        event.setCapacity(eventDetails.getCapacity());
 
         eventRepository.save(event);
+        if (!Objects.equals(previousClubId, event.getClubId())) {
+            // Event dusre club mein gaya - ownership index ki purani entry hatao
+            clubOwnershipIndex.forgetEvent(eventId);
+        }
+        eventPublisher.publishEvent(CatalogChangedEvent.events(previousClubId, event.getClubId()));
         return ResponseEntity.ok("Event updated successfully!");
     }
 
     // 8. DELETE EVENT
     @DeleteMapping("/events/{eventId}")
     public ResponseEntity<String> deleteEvent(@PathVariable Long eventId) {
-        if (!eventRepository.existsById(eventId)) {
+        Event event = eventRepository.findById(eventId).orElse(null);
+
+        if (event == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body("Error: Event with ID '" + eventId + "' not found!");
         }
 
-        eventRepository.deleteById(eventId);
+        eventRepository.delete(event);
+        clubOwnershipIndex.forgetEvent(eventId);
+        eventPublisher.publishEvent(CatalogChangedEvent.events(event.getClubId()));
         return ResponseEntity.ok("Event deleted successfully!");
     }
 
@@ -187,6 +254,7 @@ public class AdminController {
         boolean newStatus = !Boolean.TRUE.equals(event.getHidden());
         event.setHidden(newStatus);
         eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.events(event.getClubId()));
 
         String statusText = newStatus ? "hidden" : "visible";
         return ResponseEntity.ok("Event is now " + statusText + "!");
@@ -204,6 +272,7 @@ public class AdminController {
 
         event.setHidden(hidden);
         eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.events(event.getClubId()));
 
         String statusText = hidden ? "hidden" : "visible";
         return ResponseEntity.ok("Event is now " + statusText + "!");
@@ -213,14 +282,17 @@ public class AdminController {
 
     // 11. GET CLUB OFFICIALS BY CLUB ID
     @GetMapping("/officials/{clubId}")
-    public ResponseEntity<List<User>> getClubOfficials(@PathVariable String clubId) {
-        return ResponseEntity.ok(userRepository.findByClubId(clubId));
+    public ResponseEntity<List<?>> getClubOfficials(@PathVariable String clubId,
+            @RequestParam(required = false) String fields) {
+        List<UserSummary> officials = userRepository.findSummariesByClubId(clubId);
+        return ResponseEntity.ok(SparseFields.parse(fields).apply(jsonMapper, officials));
     }
 
     // 12. GET ALL FACULTY USERS
     @GetMapping("/faculty")
-    public ResponseEntity<List<User>> getAllFaculty() {
-        return ResponseEntity.ok(userRepository.findByRole("FACULTY"));
+    public ResponseEntity<List<?>> getAllFaculty(@RequestParam(required = false) String fields) {
+        List<UserSummary> faculty = userRepository.findSummariesByRole("FACULTY");
+        return ResponseEntity.ok(SparseFields.parse(fields).apply(jsonMapper, faculty));
     }
 
     // 13. ASSIGN FACULTY TO CLUB (by email)
@@ -276,4 +348,27 @@ public class AdminController {
         return ResponseEntity.ok("Faculty '" + user.getFirstName() + " " + user.getLastName() + "' removed from club '"
                 + previousClub + "'!");
     }
+
+    // ==================== EVENT STATS ====================
+
+    // 15. RECONCILE EVENT STATS (registrations se counters dobara compute + drift report)
+    @PostMapping("/event-stats/reconcile")
+    public ResponseEntity<StatsReconciliationReport> reconcileEventStats() {
+        return ResponseEntity.ok(eventStatsReconciler.reconcileAll());
+    }
+
+    // 16. LAST RECONCILIATION REPORT
+    @GetMapping("/event-stats/reconcile")
+    public ResponseEntity<StatsReconciliationReport> getLastReconciliation() {
+        StatsReconciliationReport report = eventStatsReconciler.getLastReport();
+        return report != null ? ResponseEntity.ok(report) : ResponseEntity.noContent().build();
+    }
+
+    // ==================== CACHE ====================
+
+    // 17. HIBERNATE SECOND-LEVEL CACHE - har region ke hits/misses/puts
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheRegionStats>> getCacheStats() {
+        return ResponseEntity.ok(secondLevelCacheStats.regions());
+    }
 }
@@ -1,8 +1,14 @@
 package com.infonest.controller;
 
 import com.infonest.dto.*;
+import com.infonest.service.AuthRateLimiter;
 import com.infonest.service.AuthService;
+import com.infonest.service.InvalidRefreshTokenException;
+import com.infonest.service.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
@@ -15,18 +21,55 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private AuthRateLimiter authRateLimiter;
+
     @PostMapping("/signup")
-    public ResponseEntity<String> signup(@Valid @RequestBody SignupRequest request) {
-        String msg = authService.register(request);
-        return msg.contains("Error") ? ResponseEntity.badRequest().body(msg) : ResponseEntity.ok(msg);
+    public ResponseEntity<String> signup(@Valid @RequestBody SignupRequest request, HttpServletRequest httpRequest) {
+        try {
+            // Per-IP + per-email throttle, BCrypt se pehle
+            authRateLimiter.check(httpRequest.getRemoteAddr(), request.getEmail());
+            String msg = authService.register(request);
+            return msg.contains("Error") ? ResponseEntity.badRequest().body(msg) : ResponseEntity.ok(msg);
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
+        }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         try {
+            authRateLimiter.check(httpRequest.getRemoteAddr(), request.getEmail());
             return ResponseEntity.ok(authService.login(request));
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             return ResponseEntity.status(401).body(e.getMessage());
         }
     }
+
+    // Access token renew - BCrypt nahi chalta. Naya access + naya refresh token (purana ab invalid)
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshRequest request) {
+        try {
+            return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+        } catch (InvalidRefreshTokenException e) {
+            return ResponseEntity.status(401).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshRequest request) {
+        if (request.getRefreshToken() != null && !request.getRefreshToken().isBlank()) {
+            authService.logout(request.getRefreshToken());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    // Rate limit ya BCrypt pool bhara - 429 + Retry-After
+    private ResponseEntity<String> tooManyRequests(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package com.infonest.controller;
 
+import com.infonest.config.QueryBudget;
+import com.infonest.dto.ClubDetailsResponse;
+import com.infonest.dto.ClubEventSummary;
+import com.infonest.dto.UserSummary;
 import com.infonest.model.Club;
+import com.infonest.model.EventStats;
 import com.infonest.repository.ClubRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import com.infonest.model.Event;
-import com.infonest.model.User;
 import com.infonest.repository.EventRepository;
-import com.infonest.repository.RegistrationRepository;
 import com.infonest.repository.UserRepository;
-import java.util.HashMap;
+import com.infonest.service.CatalogRevisions;
+import com.infonest.service.CatalogService;
+import com.infonest.service.EventStatsService;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -24,40 +31,51 @@ public class ClubController {
     @Autowired
     private EventRepository eventRepository;
     @Autowired
-    private RegistrationRepository registrationRepository;
+    private EventStatsService eventStatsService;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private CatalogService catalogService;
+    @Autowired
+    private CatalogRevisions catalogRevisions;
 
+    // club + events + event_stats (ek IN query) + faculty - events kitne bhi hon
     @GetMapping("/{id}/details")
-    public ResponseEntity<?> getClubFullDetails(@PathVariable String id) {
-        Map<String, Object> response = new HashMap<>();
-
+    @QueryBudget(statements = 4)
+    public ResponseEntity<ClubDetailsResponse> getClubFullDetails(@PathVariable String id) {
         // 1. Club Name aur ID fetch karein
         Club club = clubRepository.findById(id).orElse(null);
-        response.put("club", club);
 
         // 2. Events fetch karein (Only visible events for public view)
         List<Event> events = eventRepository.findByClubIdAndHiddenFalse(id);
 
-        // Logic to add registration count for each event
-        List<Map<String, Object>> eventsWithCounts = events.stream().map(event -> {
-            Map<String, Object> eventData = new HashMap<>();
-            eventData.put("details", event);
-            eventData.put("regCount", registrationRepository.countByEventId(event.getEventId()));
-            return eventData;
-        }).collect(Collectors.toList());
+        // Registration counts event_stats se - ek primary-key lookup, COUNT(*) nahi
+        Map<Long, EventStats> stats = eventStatsService.findByEventIds(
+                events.stream().map(Event::getEventId).collect(Collectors.toList()));
 
-        response.put("events", eventsWithCounts);
+        List<ClubEventSummary> eventsWithCounts = events.stream()
+                .map(event -> {
+                    EventStats eventStats = stats.get(event.getEventId());
+                    return new ClubEventSummary(event, eventStats != null ? eventStats.getTotalCount() : 0);
+                })
+                .collect(Collectors.toList());
 
         // 3. Faculty details (Users filtered by club_id)
-        List<User> faculty = userRepository.findByClubId(id);
-        response.put("faculty", faculty);
+        List<UserSummary> faculty = userRepository.findSummariesByClubId(id);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new ClubDetailsResponse(club, eventsWithCounts, faculty));
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<Club>> getAllClubs() {
-        return ResponseEntity.ok(clubRepository.findAllByOrderByClubNameAsc());
+    public ResponseEntity<List<Club>> getAllClubs(WebRequest request) {
+        long revision = catalogRevisions.clubsRevision();
+        String etag = catalogRevisions.clubsEtag(revision);
+        if (request.checkNotModified(etag)) {
+            return null; // 304 - na DB hit, na body serialization
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(catalogService.getAllClubs(revision));
     }
 }
\ No newline at end of file
@@ -1,18 +1,45 @@
 
 package com.infonest.controller;
 
+import com.infonest.dto.BulkStatusRequest;
+import com.infonest.dto.EventFilter;
+import com.infonest.dto.RegistrationFormData;
 import com.infonest.model.Event;
-import com.infonest.model.Registration;
+import com.infonest.model.EventFormField;
 import com.infonest.repository.EventRepository;
 import com.infonest.repository.RegistrationRepository;
-import com.infonest.config.JwtUtils;
+import com.infonest.config.JwtPrincipal;
+import com.infonest.config.JwtTokenCache;
+import com.infonest.service.CatalogChangedEvent;
+import com.infonest.service.ClubOwnershipIndex;
+import com.infonest.service.EventFullException;
+import com.infonest.service.EventListingService;
+import com.infonest.service.LiveStreams;
+import com.infonest.service.RegistrationLiveUpdates;
+import com.infonest.service.FormAnswerService;
+import com.infonest.service.RegistrationService;
+import com.infonest.service.SubmissionExportService;
+import com.infonest.service.SubmissionListingService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/api/v1/faculty")
@@ -25,13 +52,42 @@ public class ClubOfficialController {
     private RegistrationRepository registrationRepository;
 
     @Autowired
-    private JwtUtils jwtUtils;
+    private RegistrationService registrationService;
+
+    @Autowired
+    private JwtTokenCache jwtTokenCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private LiveStreams liveStreams;
+
+    @Autowired
+    private SubmissionListingService submissionListingService;
+
+    @Autowired
+    private SubmissionExportService submissionExportService;
+
+    @Autowired
+    private FormAnswerService formAnswerService;
+
+    @Autowired
+    private ClubOwnershipIndex clubOwnershipIndex;
+
+    @Autowired
+    private EventListingService eventListingService;
 
     // Helper method to extract clubId from JWT token
+    // Filter ne jo principal already parse kiya hai wahi reuse hota hai - token dobara verify nahi hota
     private String getClubIdFromToken(String authHeader) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.clubId();
+        }
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtils.extractClubId(token);
+            JwtPrincipal principal = jwtTokenCache.resolve(authHeader.substring(7));
+            return principal != null ? principal.clubId() : null;
         }
         return null;
     }
@@ -63,6 +119,7 @@ public class ClubOfficialController {
         }
 
         eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.events(event.getClubId()));
         return ResponseEntity.ok("Event added successfully!");
     }
 
@@ -93,6 +150,8 @@ public class ClubOfficialController {
             @RequestHeader("Authorization") String authHeader) {
         String facultyClubId = getClubIdFromToken(authHeader);
 
+        // Entity waise bhi load hoti hai - ownership usi ke clubId se (index doosre instance ka
+        // admin reassignment refresh tak nahi dekhta)
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
 
@@ -123,8 +182,10 @@ public class ClubOfficialController {
         event.setEventTime(eventDetails.getEventTime());
         event.setDeadline(eventDetails.getDeadline());
         event.setRegistrationFormLink(eventDetails.getRegistrationFormLink());
+        event.setCapacity(eventDetails.getCapacity());
 
         eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.events(event.getClubId()));
         return ResponseEntity.ok("Event details updated successfully!");
     }
 
@@ -135,16 +196,18 @@ public class ClubOfficialController {
             @RequestHeader("Authorization") String authHeader) {
         String facultyClubId = getClubIdFromToken(authHeader);
 
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-
-        // Security check: Faculty can only delete their own club's events
-        if (facultyClubId == null || !facultyClubId.equals(event.getClubId())) {
+        // Security check: Faculty can only delete their own club's events.
+        // Ownership DB mein hi check hoti hai (conditional DELETE) - index par bharosa nahi, entity load nahi
+        if (facultyClubId == null || eventRepository.deleteByEventIdAndClubId(eventId, facultyClubId) == 0) {
+            if (!eventRepository.existsById(eventId)) {
+                throw new RuntimeException("Event not found");
+            }
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body("Error: You can only delete your own club's events!");
         }
 
-        eventRepository.deleteById(eventId);
+        clubOwnershipIndex.forgetEvent(eventId);
+        eventPublisher.publishEvent(CatalogChangedEvent.events(facultyClubId));
         return ResponseEntity.ok("Event deleted successfully!");
     }
 
@@ -164,6 +227,92 @@ public class ClubOfficialController {
         return ResponseEntity.ok(registrationRepository.findAllByClubId(clubId));
     }
 
+    // 5b. VIEW SUBMISSIONS (paginated) - bina formData ke, naye pehle. Filters: eventId, status;
+    // agla page ?after=<nextCursor> se
+    @GetMapping("/submissions/{clubId}/page")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> getClubSubmissionsPage(@PathVariable String clubId,
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size) {
+        String facultyClubId = getClubIdFromToken(null);
+
+        // Security check: Faculty can only view their own club's submissions
+        if (facultyClubId == null || !facultyClubId.equals(clubId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only view your own club's submissions!");
+        }
+
+        return ResponseEntity.ok(submissionListingService.listSubmissions(clubId, eventId, status, after, size));
+    }
+
+    // 5c. FORM DATA of one registration (on demand, list mein nahi aata)
+    @GetMapping("/registrations/{regId}/form-data")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> getRegistrationFormData(@PathVariable Long regId) {
+        RegistrationFormData formData = registrationRepository.findFormData(regId).orElse(null);
+        if (formData == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String facultyClubId = getClubIdFromToken(null);
+
+        // Security check: Faculty can only read forms submitted to their own club's events
+        if (facultyClubId == null || !facultyClubId.equals(formData.getClubId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only view your own club's submissions!");
+        }
+
+        return ResponseEntity.ok(formData);
+    }
+
+    // 5d. EXPORT SUBMISSIONS - CSV (default) ya NDJSON, seedha response mein stream (poori list memory mein nahi).
+    // Download link header nahi bhej sakta, isliye single-use ?ticket= se bhi chalta hai
+    @GetMapping("/export/{clubId}")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> exportSubmissions(@PathVariable String clubId,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(required = false) String status,
+            HttpServletRequest request) {
+        String facultyClubId = getClubIdFromToken(null);
+
+        // Security check: Faculty can only export their own club's submissions
+        if (facultyClubId == null || !facultyClubId.equals(clubId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only export your own club's submissions!");
+        }
+
+        SubmissionExportService.Format exportFormat;
+        try {
+            exportFormat = SubmissionExportService.Format.parse(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: format must be csv or ndjson");
+        }
+
+        SubmissionExportService.Export body = submissionExportService.openExport(clubId, eventId, status, exportFormat);
+        if (body == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body("Too many exports running, please retry shortly.");
+        }
+        // Async request kisi bhi tarah khatam ho (body chali ho ya nahi - client abort, timeout, dispatch reject),
+        // permit wapas; body ne pehle hi chhod diya ho to no-op
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor("export-permit",
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        body.release();
+                    }
+                });
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.contentType() + ";charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(clubId + "-submissions." + exportFormat.extension()).build().toString())
+                .body(body);
+    }
+
     // 6. UPDATE STATUS (Approve/Reject) - Only for faculty's own club's
     // registrations
     @PutMapping("/update-status/{regId}")
@@ -171,30 +320,132 @@ public class ClubOfficialController {
     public ResponseEntity<String> updateStatus(@PathVariable Long regId,
             @RequestParam String status,
             @RequestHeader("Authorization") String authHeader) {
-        Registration reg = registrationRepository.findById(regId)
-                .orElseThrow(() -> new RuntimeException("Registration not found"));
+        String facultyClubId = getClubIdFromToken(authHeader);
 
-        // Get the event to check club ownership
-        Event event = eventRepository.findById(reg.getEventId())
-                .orElseThrow(() -> new RuntimeException("Event not found"));
+        // Status + event_stats counters ek saath; seat lene wala badlav bhare event par 409.
+        // Security check: Faculty can only update status for their own club's events - registration lock ke
+        // andar DB se (write hai, isliye index ki staleness window yahan nahi chalti)
+        try {
+            if (registrationService.updateStatus(regId, status, facultyClubId) == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body("Error: You can only manage registrations for your own club's events!");
+            }
+        } catch (EventFullException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
+        }
+        return ResponseEntity.ok("Status updated to " + status);
+    }
 
-        String facultyClubId = getClubIdFromToken(authHeader);
+    // 6b. BULK UPDATE STATUS - regIds ki list ya filter (eventId + fromStatus). Ownership ek joined query se,
+    // update ek set-based UPDATE se; har regId ka outcome (UPDATED/UNCHANGED/NOT_FOUND/FORBIDDEN/FULL) wapas
+    @PutMapping("/registrations/status")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> bulkUpdateStatus(@RequestBody BulkStatusRequest request) {
+        String facultyClubId = getClubIdFromToken(null);
 
-        // Security check: Faculty can only update status for their own club's events
-        if (facultyClubId == null || !facultyClubId.equals(event.getClubId())) {
+        if (facultyClubId == null) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                    .body("Error: You can only manage registrations for your own club's events!");
+                    .body("Error: Club ID not found in token!");
         }
 
-        reg.setStatus(status);
-        registrationRepository.save(reg);
-        return ResponseEntity.ok("Status updated to " + status);
+        try {
+            return ResponseEntity.ok(registrationService.bulkUpdateStatus(facultyClubId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    // 8. LIVE SUBMISSIONS STREAM (SSE) - naye registrations, status changes aur form data ke deltas.
+    // EventSource header nahi bhej sakta, isliye single-use ?ticket= se aata hai (JwtAuthenticationFilter)
+    @GetMapping(value = "/stream/{clubId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> streamSubmissions(@PathVariable String clubId) {
+        String facultyClubId = getClubIdFromToken(null);
+
+        // Security check: Faculty can only watch their own club
+        if (facultyClubId == null || !facultyClubId.equals(clubId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only view your own club's submissions!");
+        }
+
+        SseEmitter emitter = liveStreams.open(RegistrationLiveUpdates.clubTopic(clubId));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Too many live connections, please retry later.");
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    // 9. EVENT FORM SCHEMA - declared fields jinke answers filter/sort ke liye index hote hain
+    @GetMapping("/events/{eventId}/form-fields")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> getFormFields(@PathVariable Long eventId) {
+        ResponseEntity<String> denied = checkEventOwnership(eventId);
+        if (denied != null) {
+            return denied;
+        }
+        return ResponseEntity.ok(formAnswerService.getSchema(eventId));
+    }
+
+    // Poora schema replace hota hai; purane registrations ke answers usi waqt backfill.
+    // Write hai, isliye ownership index se nahi - service transaction mein DB se check karti hai
+    @PutMapping("/events/{eventId}/form-fields")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> replaceFormFields(@PathVariable Long eventId, @RequestBody List<EventFormField> fields) {
+        List<EventFormField> saved;
+        try {
+            saved = formAnswerService.replaceSchema(eventId, getClubIdFromToken(null), fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+        if (saved == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only manage your own club's events!");
+        }
+        return ResponseEntity.ok(saved);
+    }
+
+    // 10. SEARCH APPLICANTS by form answers - DB mein filter/sort, paginated.
+    // ?filter=year:gte:2&filter=branch:eq:CSE&sort=year:desc&status=APPLIED&cursor=...
+    @GetMapping("/events/{eventId}/applicants")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> searchApplicants(@PathVariable Long eventId,
+            @RequestParam(required = false) List<String> filter,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        ResponseEntity<String> denied = checkEventOwnership(eventId);
+        if (denied != null) {
+            return denied;
+        }
+        try {
+            return ResponseEntity.ok(formAnswerService.findApplicants(eventId, status, filter, sort, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    // null = faculty isi event ke club ka hai. Sirf read endpoints ke liye: ownership index se, jo doosre
+    // instance par hue admin reassignment ko infonest.authz.refresh-ms (default 10 min) tak nahi dekhta.
+    // Saare writes (update/delete event, status change, form schema) DB se check karte hain.
+    private ResponseEntity<String> checkEventOwnership(Long eventId) {
+        if (clubOwnershipIndex.clubOfEvent(eventId) == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!clubOwnershipIndex.ownsEvent(getClubIdFromToken(null), eventId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only manage your own club's events!");
+        }
+        return null;
     }
 
-    // 7. GET ALL EVENTS FOR FACULTY'S CLUB
+    // 7. GET ALL EVENTS FOR FACULTY'S CLUB (EventSummary list; edit form description event-details se leta hai)
     @GetMapping("/my-events")
     @PreAuthorize("hasRole('FACULTY')")
-    public ResponseEntity<?> getMyClubEvents(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> getMyClubEvents(@RequestHeader("Authorization") String authHeader,
+            @RequestParam(required = false) String fields) {
         String facultyClubId = getClubIdFromToken(authHeader);
 
         if (facultyClubId == null) {
@@ -202,7 +453,6 @@ public class ClubOfficialController {
                     .body("Error: Club ID not found in token!");
         }
 
-        List<Event> events = eventRepository.findByClubId(facultyClubId);
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok(eventListingService.listAll(new EventFilter(facultyClubId, null, null, null), fields));
     }
 }
\ No newline at end of file
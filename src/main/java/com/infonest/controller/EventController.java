@@ -1,11 +1,26 @@
 package com.infonest.controller;
 
+import com.infonest.dto.EventFilter;
+import com.infonest.dto.EventPage;
 import com.infonest.model.Event;
+import com.infonest.model.EventStats;
 import com.infonest.repository.EventRepository;
+import com.infonest.repository.EventStatsRepository;
+import com.infonest.service.CatalogChangedEvent;
+import com.infonest.service.CatalogRevisions;
+import com.infonest.service.CatalogService;
+import com.infonest.service.ClubOwnershipIndex;
+import com.infonest.service.EventListingService;
+import com.infonest.service.SparseFields;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -17,10 +32,49 @@ public class EventController {
     @Autowired
     private EventRepository eventRepository;
 
-    // 1. PUBLIC: Sabhi users (Guest/Student/Admin) events dekh sakte hain
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private CatalogRevisions catalogRevisions;
+
+    @Autowired
+    private EventListingService eventListingService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ClubOwnershipIndex clubOwnershipIndex;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    // 1. PUBLIC: Sabhi users (Guest/Student/Admin) events dekh sakte hain - hidden events nahi
+    // (EventSummary list; description sirf jab fields= mein maanga ho, e.g. fields=eventId,eventName,description)
     @GetMapping
-    public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+    public List<?> getAllEvents(@RequestParam(required = false) String fields) {
+        return eventListingService.listAll(new EventFilter(null, null, null, false), fields);
+    }
+
+    // 1b. PUBLIC: Paginated listing (cursor-based). Hidden events kabhi nahi aate;
+    // description sirf jab fields= mein maanga ho
+    @GetMapping("/page")
+    public ResponseEntity<EventPage<?>> getEventsPage(@RequestParam(required = false) String clubId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields) {
+        try {
+            return ResponseEntity.ok(eventListingService.listEvents(
+                    new EventFilter(clubId, from, to, false), cursor, size, fields));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 2. PUBLIC: Kisi specific event ki details dekhne ke liye
@@ -36,6 +90,7 @@ public class EventController {
     @PreAuthorize("hasRole('FACULTY')")
     public ResponseEntity<Event> createEvent(@RequestBody Event event) {
         Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.events(savedEvent.getClubId()));
         return ResponseEntity.ok(savedEvent);
     }
 
@@ -51,31 +106,68 @@ public class EventController {
             existingEvent.setEventTime(eventDetails.getEventTime());
             existingEvent.setDeadline(eventDetails.getDeadline());
             existingEvent.setRegistrationFormLink(eventDetails.getRegistrationFormLink());
-            return ResponseEntity.ok(eventRepository.save(existingEvent));
+            existingEvent.setCapacity(eventDetails.getCapacity());
+            Event saved = eventRepository.save(existingEvent);
+            eventPublisher.publishEvent(CatalogChangedEvent.events(saved.getClubId()));
+            return ResponseEntity.ok(saved);
         }).orElse(ResponseEntity.notFound().build());
     }
 
+    // Event cards description dikhate hain, isliye yahan default poori row; fields= se trim ho sakti hai
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Event>> getUpcomingEvents() {
+    public ResponseEntity<List<?>> getUpcomingEvents(@RequestParam(required = false) String fields,
+            WebRequest request) {
+        LocalDate today = LocalDate.now();
+        long revision = catalogRevisions.eventsRevision();
+        String etag = catalogRevisions.upcomingEventsEtag(today, revision);
+        if (request.checkNotModified(etag)) {
+            return null; // 304 - na DB hit, na body serialization
+        }
+
         // Return visible events with eventDate >= today, sorted by date ascending
         // (nearest first)
-        return ResponseEntity
-                .ok(eventRepository.findByHiddenFalseAndEventDateGreaterThanEqualOrderByEventDateAsc(LocalDate.now()));
+        // (read-through cache, DB sirf miss par)
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(SparseFields.parse(fields).apply(jsonMapper, catalogService.getUpcomingEvents(today, revision)));
     }
 
     // 6. PUBLIC: Get ALL events by clubId (sorted by date, for individual club
     // page)
     @GetMapping("/club/{clubId}")
-    public ResponseEntity<List<Event>> getEventsByClubId(@PathVariable String clubId) {
+    public ResponseEntity<List<?>> getEventsByClubId(@PathVariable String clubId,
+            @RequestParam(required = false) String fields, WebRequest request) {
+        long revision = catalogRevisions.clubEventsRevision(clubId);
+        String etag = catalogRevisions.clubEventsEtag(revision);
+        if (request.checkNotModified(etag)) {
+            return null; // 304
+        }
+
         // Return all visible events for this club, sorted by date ascending
-        return ResponseEntity.ok(eventRepository.findByClubIdAndHiddenFalseOrderByEventDateAsc(clubId));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(SparseFields.parse(fields).apply(jsonMapper, catalogService.getVisibleEventsByClub(clubId, revision)));
+    }
+
+    // 7. PUBLIC: Event ke registration counters (event_stats se, O(1))
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<EventStats> getEventStats(@PathVariable Long id) {
+        return eventStatsRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     // 5. FACULTY/ADMIN: Event delete karna
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('FACULTY', 'ADMIN')")
     public ResponseEntity<String> deleteEvent(@PathVariable Long id) {
-        eventRepository.deleteById(id);
+        eventRepository.findById(id).ifPresent(event -> {
+            eventRepository.delete(event);
+            clubOwnershipIndex.forgetEvent(id);
+            eventPublisher.publishEvent(CatalogChangedEvent.events(event.getClubId()));
+        });
         return ResponseEntity.ok("Event deleted successfully");
     }
 }
\ No newline at end of file
@@ -1,14 +1,27 @@
 package com.infonest.controller;
 
 import com.infonest.model.Registration;
+import com.infonest.model.User;
 import com.infonest.repository.RegistrationRepository;
+import com.infonest.repository.UserRepository;
+import com.infonest.service.FormSubmissionQueue;
+import com.infonest.service.IdempotencyKeyStore;
+import com.infonest.service.LiveStreams;
+import com.infonest.service.RegistrationLiveUpdates;
+import com.infonest.service.RegistrationOutcome;
+import com.infonest.service.RegistrationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+import java.security.Principal;
 import java.util.Map;
 import java.util.Optional;
-import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -18,47 +31,113 @@ public class StudentController {
     @Autowired
     private RegistrationRepository registrationRepository;
 
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private IdempotencyKeyStore idempotencyKeyStore;
+
+    @Autowired
+    private FormSubmissionQueue formSubmissionQueue;
+
+    @Autowired
+    private LiveStreams liveStreams;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
     // API: Event mein register karne ke liye (Updated to allow all roles)
     @PostMapping("/register")
     @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
-    public ResponseEntity<Object> registerForEvent(@RequestBody Registration registration) {
-        // CHECK: User ne iss event mein pehle se register kiya hai ya nahi
-        Optional<Registration> existingRegistration = registrationRepository
-                .findByUserIdAndEventId(registration.getUserId(), registration.getEventId());
-
-        if (existingRegistration.isPresent()) {
-            // Already registered - return error
-            return ResponseEntity.badRequest()
-                    .body(Map.of("error", "You have already registered for this event!"));
+    public ResponseEntity<Object> registerForEvent(@RequestBody Registration registration,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            Principal principal) {
+        // Retry (same Idempotency-Key): dobara insert nahi, pehle wala registration hi
+        if (idempotencyKey != null) {
+            IdempotencyKeyStore.Entry previous = idempotencyKeyStore.find(principal.getName(), idempotencyKey);
+            if (previous != null) {
+                if (!previous.sameRequestAs(registration)) {
+                    return ResponseEntity.unprocessableEntity()
+                            .body(Map.of("error", "Idempotency-Key was already used for a different registration!"));
+                }
+                Optional<Registration> replay = registrationRepository.findById(previous.regId());
+                if (replay.isPresent()) {
+                    return ResponseEntity.ok(replay.get());
+                }
+            }
         }
 
-        registration.setStatus("APPLIED"); // Default status
-        registration.setSubmissionDate(LocalDateTime.now()); // Set current time
-
-        registration.setFormData(null); // Shuruat mein null
+        // Insert-or-conflict (unique constraint): duplicate par pehle wala registration milta hai
+        RegistrationOutcome outcome = registrationService.register(registration);
 
-        // Row save hone ke baad hume pura object (with regId) wapas bhejna hai
-        Registration saved = registrationRepository.save(registration);
+        if (idempotencyKey != null) {
+            // Same key ke saath aaya duplicate usi request ka retry hai - success jaisa hi jawab
+            idempotencyKeyStore.remember(principal.getName(), idempotencyKey, outcome.registration());
+        } else if (!outcome.created()) {
+            // Already registered - return error (existing registration ke saath)
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "You have already registered for this event!",
+                            "registration", outcome.registration()));
+        }
 
         // String ki jagah 'saved' object bhej rahe hain taaki frontend ko regId mil
         // sake
-        return ResponseEntity.ok(saved);
+        return ResponseEntity.ok(outcome.registration());
     }
 
+    // Form data write-behind queue mein jaata hai - DB write background batch mein (sirf form_data + submission_date)
     @PutMapping("/update-form-data")
     @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
-    public ResponseEntity<String> updateFormData(@RequestBody Map<String, Object> payload) {
+    public ResponseEntity<Map<String, String>> updateFormData(@RequestBody Map<String, Object> payload) {
         Long regId = Long.valueOf(payload.get("regId").toString());
-        String jsonData = payload.get("formData").toString();
+        // Form string (JSON.stringify) ya seedha object dono chalte hain - object ka toString() JSON nahi hota
+        Object formData = payload.get("formData");
+        String jsonData = formData instanceof String text ? text : jsonMapper.writeValueAsString(formData);
+
+        // Anjaan regId ko 202 dekar chup-chaap drop nahi karte - primary key lookup, row load nahi hoti
+        if (!registrationRepository.existsById(regId)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "Registration not found"));
+        }
+
+        String submissionId = formSubmissionQueue.offer(regId, jsonData);
+        if (submissionId == null) {
+            // Queue bhari hai - client thodi der baad retry kare
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "Too many submissions right now, please retry in a moment."));
+        }
+
+        return ResponseEntity.accepted()
+                .body(Map.of("message", "Form data submitted successfully!", "submissionId", submissionId));
+    }
 
-        Registration existingReg = registrationRepository.findById(regId)
-                .orElseThrow(() -> new RuntimeException("Registration not found"));
+    // Submission ki state (QUEUED / WRITTEN / SUPERSEDED / NOT_FOUND / FAILED) - FAILED par client dobara bheje
+    @GetMapping("/submissions/{submissionId}")
+    @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
+    public ResponseEntity<FormSubmissionQueue.SubmissionStatus> getSubmissionStatus(@PathVariable String submissionId) {
+        FormSubmissionQueue.SubmissionStatus status = formSubmissionQueue.status(submissionId);
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
+    }
 
-        existingReg.setFormData(jsonData);
-        existingReg.setSubmissionDate(LocalDateTime.now()); // Update submission date when form is actually submitted
-        registrationRepository.save(existingReg);
+    // API: Apne registrations ke live deltas (SSE) - status change, waitlist promotion, form data.
+    // EventSource header nahi bhej sakta, isliye single-use ?ticket= se aata hai (JwtAuthenticationFilter)
+    @GetMapping(value = "/stream/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
+    public ResponseEntity<?> streamMyRegistrations(@PathVariable Long userId, Principal principal) {
+        // Sirf apna stream (subscribe par ek baar lookup)
+        Long ownUserId = userRepository.findByEmail(principal.getName()).map(User::getUserId).orElse(null);
+        if (!userId.equals(ownUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Error: You can only follow your own registrations!");
+        }
 
-        return ResponseEntity.ok("Form data submitted successfully!");
+        SseEmitter emitter = liveStreams.open(RegistrationLiveUpdates.userTopic(userId));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Too many live connections, please retry later.");
+        }
+        return ResponseEntity.ok(emitter);
     }
 
     // API: User ko uske apne saare applied events dikhane ke liye (Updated to use
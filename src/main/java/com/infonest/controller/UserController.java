@@ -1,12 +1,16 @@
 package com.infonest.controller;
 
+import com.infonest.config.JwtPrincipal;
+import com.infonest.config.StreamTicketStore;
 import com.infonest.model.User;
 import com.infonest.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -16,6 +20,9 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private StreamTicketStore streamTicketStore;
+
     // 1. Logged-in user ki profile details lane ke liye
     @GetMapping("/profile/{email}")
     @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
@@ -33,4 +40,15 @@ public class UserController {
         return user.map(value -> ResponseEntity.ok(value.getRole()))
                    .orElseGet(() -> ResponseEntity.badRequest().body("User not found"));
     }
-}
\ No newline at end of file
+
+    // 3. SSE stream / export download ke liye single-use ticket (~30 sec). EventSource aur download link
+    // header nahi bhej sakte - URL mein JWT ki jagah ye ticket jaata hai (?ticket=...)
+    @PostMapping("/stream-ticket")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, String>> issueStreamTicket(Authentication authentication) {
+        if (!(authentication.getPrincipal() instanceof JwtPrincipal principal)) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(Map.of("ticket", streamTicketStore.issue(principal)));
+    }
+}
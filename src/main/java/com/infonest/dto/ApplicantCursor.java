@@ -0,0 +1,35 @@
+package com.infonest.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Applicants keyset ka position: sort field ki value (jinke paas answer nahi wo sabse last) + regId tie-breaker.
+ * Bina sort ke sirf regId. Client ke liye opaque string hai.
+ */
+public record ApplicantCursor(String value, long regId) {
+
+    private static final String NO_VALUE = "-";
+
+    public boolean hasValue() {
+        return value != null;
+    }
+
+    public String encode() {
+        // Value mein "|" ho sakta hai, isliye regId pehle
+        String raw = regId + "|" + (value != null ? "=" + value : NO_VALUE);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ApplicantCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String value = raw.substring(separator + 1);
+            return new ApplicantCursor(NO_VALUE.equals(value) ? null : value.substring(1),
+                    Long.parseLong(raw.substring(0, separator)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicantPage {
+
+    private List<ApplicantSummary> items;
+    // Agle page ke liye; null matlab ye last page hai
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// Filtered applicants list ki ek row: declared form fields ke answers ke saath (poora formData nahi)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicantSummary {
+
+    private Long regId;
+    private Long userId;
+    private String status;
+    private LocalDateTime submissionDate;
+    private Map<String, String> answers;
+}
@@ -14,4 +14,6 @@ public class AuthResponse {
     private String clubId;
     private Long userId;
     private String email;
+    // Access token expire hone par /auth/refresh ke liye (har refresh par naya milta hai)
+    private String refreshToken;
 }
@@ -0,0 +1,13 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusOutcome {
+    private Long regId;
+    private String outcome; // UPDATED, UNCHANGED, NOT_FOUND, FORBIDDEN, FULL
+}
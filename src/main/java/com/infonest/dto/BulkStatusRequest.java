@@ -0,0 +1,16 @@
+package com.infonest.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Bulk approve/reject: ya to regIds ki list, ya filter (eventId + optional fromStatus) - dono mein se ek.
+ */
+@Data
+public class BulkStatusRequest {
+    private List<Long> regIds;
+    private Long eventId;
+    private String fromStatus;
+    private String status; // target: APPLIED, APPROVED, REJECTED, WAITLISTED
+}
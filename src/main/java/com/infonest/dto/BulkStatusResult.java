@@ -0,0 +1,16 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusResult {
+    private String status;
+    private int updated;
+    private List<BulkStatusOutcome> outcomes;
+}
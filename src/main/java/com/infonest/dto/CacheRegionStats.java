@@ -0,0 +1,18 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheRegionStats {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    // Provider na bata sake to negative
+    private long elementsInMemory;
+}
@@ -0,0 +1,18 @@
+package com.infonest.dto;
+
+import com.infonest.model.Club;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClubDetailsResponse {
+
+    private Club club;
+    private List<ClubEventSummary> events;
+    private List<UserSummary> faculty;
+}
@@ -0,0 +1,15 @@
+package com.infonest.dto;
+
+import com.infonest.model.Event;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClubEventSummary {
+
+    private Event details;
+    private long regCount;
+}
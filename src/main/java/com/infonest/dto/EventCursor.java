@@ -0,0 +1,31 @@
+package com.infonest.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Keyset pagination ka position: (eventDate, eventId) jahan pichla page khatam hua.
+ * Client ke liye opaque string hai; eventDate null ho sakta hai (bina date wale events sabse pehle aate hain).
+ */
+public record EventCursor(LocalDate eventDate, long eventId) {
+
+    private static final String NO_DATE = "-";
+
+    public String encode() {
+        String raw = (eventDate != null ? eventDate.toString() : NO_DATE) + "|" + eventId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String date = raw.substring(0, separator);
+            return new EventCursor(NO_DATE.equals(date) ? null : LocalDate.parse(date),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
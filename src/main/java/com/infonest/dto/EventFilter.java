@@ -0,0 +1,19 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Event listing filters - null field = filter nahi lagega
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventFilter {
+
+    private String clubId;
+    private LocalDate from;
+    private LocalDate to;
+    private Boolean hidden;
+}
@@ -0,0 +1,10 @@
+package com.infonest.dto;
+
+// Grouped count projection: (eventId, status) -> registrations
+public interface EventStatusCount {
+    Long getEventId();
+
+    String getStatus();
+
+    long getRegistrationCount();
+}
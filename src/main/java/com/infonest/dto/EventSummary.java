@@ -0,0 +1,26 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// List views ke liye Event bina description (TEXT) column ke
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventSummary {
+
+    private Long eventId;
+    private String clubId;
+    private String venueId;
+    private String eventName;
+    private LocalDate eventDate;
+    private LocalTime eventTime;
+    private LocalDate deadline;
+    private String registrationFormLink;
+    private Integer capacity;
+    private Boolean hidden;
+}
@@ -0,0 +1,25 @@
+package com.infonest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Live stream ka ek delta - poori list dobara load karne ki jagah client sirf ye row update/insert karta hai
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RegistrationDelta {
+    private String type; // CREATED, STATUS_CHANGED, FORM_SUBMITTED, BULK_STATUS_CHANGED
+    private Long regId;
+    private Long eventId;
+    private Long userId;
+    private String status;
+    private String formData;
+    private LocalDateTime at;
+    private List<Long> regIds; // sirf BULK_STATUS_CHANGED: in sab ka status ab "status" hai
+}
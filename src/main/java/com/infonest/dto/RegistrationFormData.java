@@ -0,0 +1,18 @@
+package com.infonest.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Ek registration ka form data; clubId sirf ownership check ke liye (response mein nahi jaata)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RegistrationFormData {
+
+    private Long regId;
+    @JsonIgnore
+    private String clubId;
+    private String formData;
+}
@@ -0,0 +1,22 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Faculty submissions list ke liye Registration bina formData (TEXT) ke - form data alag se on demand aata hai
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RegistrationSummary {
+
+    private Long regId;
+    private Long eventId;
+    private String eventName;
+    private Long userId;
+    private String status;
+    private LocalDateTime submissionDate;
+    private Boolean hasFormData;
+}
@@ -0,0 +1,20 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StatsReconciliationReport {
+
+    private LocalDateTime startedAt;
+    private long durationMs;
+    private long eventsScanned;
+    private long eventsWithDrift;
+    // Saare counters ka absolute difference (stored vs recomputed)
+    private long totalDrift;
+}
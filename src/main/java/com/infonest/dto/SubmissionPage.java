@@ -0,0 +1,17 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubmissionPage {
+
+    private List<RegistrationSummary> items;
+    // Agle page ke liye ?after= mein bhejo; null matlab ye last page hai
+    private Long nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Faculty / officials lists ke liye User bina password hash ke (sirf ye columns select hote hain)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSummary {
+
+    private Long userId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String role;
+    private String clubId;
+}
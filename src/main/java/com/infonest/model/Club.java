@@ -4,9 +4,14 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+// Clubs kam aur lagbhag static - second-level cache (region "club", hibernate-cache.conf)
 @Entity
 @Table(name = "clubs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "club")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
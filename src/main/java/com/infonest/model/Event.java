@@ -7,7 +7,12 @@ import java.time.LocalTime;
 
 @Entity
 @Data
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // Public/admin listing: hidden filter + keyset (event_date, event_id)
+        @Index(name = "idx_events_hidden_date_id", columnList = "hidden, event_date, event_id"),
+        // Club-wise listing by date
+        @Index(name = "idx_events_club_date", columnList = "club_id, event_date")
+})
 public class Event {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -27,6 +32,9 @@ public class Event {
     // Isme URL ya "club_form_link" store hoga
     private String registrationFormLink;
 
+    // Max seats (APPLIED/APPROVED etc.); null = unlimited. Baaki registrations WAITLISTED jaate hain
+    private Integer capacity;
+
     // Admin can hide events from public view
     @Column(nullable = false)
     private Boolean hidden = false;
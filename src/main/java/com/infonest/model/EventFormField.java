@@ -0,0 +1,30 @@
+package com.infonest.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Event ke registration form ka ek declared field. Sirf declared fields ke answers registration_answers mein index hote hain
+@Entity
+@Data
+@Table(name = "event_form_fields", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_event_form_fields_event_key", columnNames = { "event_id", "field_key" })
+})
+public class EventFormField {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long fieldId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    // formData mein key (nested ke liye "skills.primary")
+    @Column(nullable = false, length = 64)
+    private String fieldKey;
+
+    private String label;
+
+    @Column(nullable = false, length = 16)
+    private String type = "TEXT"; // TEXT, NUMBER
+
+    private Integer sortOrder;
+}
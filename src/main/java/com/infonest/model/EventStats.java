@@ -0,0 +1,33 @@
+package com.infonest.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Har event ke registration counters - registration write ke saath hi update hote hain
+@Entity
+@Data
+@Table(name = "event_stats")
+public class EventStats {
+    @Id
+    private Long eventId;
+
+    @Column(nullable = false)
+    private long totalCount;
+
+    @Column(nullable = false)
+    private long appliedCount;
+
+    @Column(nullable = false)
+    private long approvedCount;
+
+    @Column(nullable = false)
+    private long rejectedCount;
+
+    @Column(nullable = false)
+    private long waitlistedCount;
+
+    // Seat wahi registration rakhta hai jo na REJECTED hai na WAITLISTED
+    public long getSeatsTaken() {
+        return totalCount - rejectedCount - waitlistedCount;
+    }
+}
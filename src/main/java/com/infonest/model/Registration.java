@@ -6,7 +6,13 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "registrations")
+@Table(name = "registrations", uniqueConstraints = {
+        // Ek user ek event mein sirf ek baar - concurrent requests mein bhi
+        @UniqueConstraint(name = "uk_registrations_user_event", columnNames = { "user_id", "event_id" })
+}, indexes = {
+        // Event ke registrations status-wise, regId order mein (waitlist head yahin se milta hai)
+        @Index(name = "idx_registrations_event_status", columnList = "event_id, status, reg_id")
+})
 public class Registration {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,7 +23,7 @@ public class Registration {
     // User table ki ID (student/faculty/admin)
     private Long userId; 
     
-    private String status="APPLIED"; // PENDING, APPROVED, REJECTED
+    private String status="APPLIED"; // PENDING, APPROVED, REJECTED, WAITLISTED
 
     @Column(columnDefinition = "TEXT")
     private String formData; // JSON string for recruitment details
@@ -0,0 +1,41 @@
+package com.infonest.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Registration ke formData ka ek declared field, alag row mein taaki filter/sort DB mein ho.
+ * formData (TEXT) hi source of truth hai - ye table usse FormAnswerService banata hai.
+ */
+@Entity
+@Data
+@Table(name = "registration_answers", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_registration_answers_reg_key", columnNames = { "reg_id", "field_key" })
+}, indexes = {
+        // Event ke applicants answer se filter/sort (text ya number), regId tie-breaker
+        @Index(name = "idx_answers_event_key_text", columnList = "event_id, field_key, text_value, reg_id"),
+        @Index(name = "idx_answers_event_key_number", columnList = "event_id, field_key, number_value, reg_id")
+})
+public class RegistrationAnswer {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long answerId;
+
+    @Column(nullable = false)
+    private Long regId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false, length = 64)
+    private String fieldKey;
+
+    // Display + text filters; lambe answers index ke liye kaat diye jaate hain (poora formData mein hai)
+    private String textValue;
+
+    // Sirf NUMBER fields ke liye
+    @Column(precision = 19, scale = 4)
+    private BigDecimal numberValue;
+}
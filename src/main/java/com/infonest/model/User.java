@@ -1,10 +1,20 @@
 package com.infonest.model;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.Email;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+// Login / profile lookups email se hote hain - email natural id hai, uska userId resolution aur entity
+// dono second-level cache mein (regions "user-email" aur "user")
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-email")
 @Data
 public class User {
     @Id
@@ -14,10 +24,13 @@ public class User {
     private String firstName;
     private String lastName;
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     @Email(message = "Please provide a valid email address")
     private String email;
 
+    // Hash kabhi kisi response mein serialize nahi hota
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Column(nullable = false)
     private String password; // Will store encrypted hash
 
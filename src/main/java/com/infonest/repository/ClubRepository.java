@@ -1,12 +1,23 @@
 package com.infonest.repository;
 
 import com.infonest.model.Club;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface ClubRepository extends JpaRepository<Club, String> {
-    // Club names ko A-Z order mein lane ke liye
+    // Club names ko A-Z order mein lane ke liye (Hibernate query cache se; clubs table badalte hi invalid)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Club> findAllByOrderByClubNameAsc();
-}
\ No newline at end of file
+
+    // Default existsById ek count query chalata hai jo second-level cache ko bypass karta hai;
+    // findById pehle cache dekhta hai - signup, admin event add/update aur faculty assignment par DB hit nahi
+    @Override
+    default boolean existsById(String clubId) {
+        return findById(clubId).isPresent();
+    }
+}
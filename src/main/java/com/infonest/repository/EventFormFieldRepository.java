@@ -0,0 +1,22 @@
+package com.infonest.repository;
+
+import com.infonest.model.EventFormField;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EventFormFieldRepository extends JpaRepository<EventFormField, Long> {
+
+    List<EventFormField> findByEventIdOrderBySortOrderAscFieldIdAsc(Long eventId);
+
+    // Form flush ke batch ke saare events ke fields ek query mein
+    List<EventFormField> findByEventIdIn(Collection<Long> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM EventFormField f WHERE f.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
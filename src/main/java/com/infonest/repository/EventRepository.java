@@ -1,13 +1,18 @@
 package com.infonest.repository;
 
 import com.infonest.model.Event;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
     // Original methods
     List<Event> findByEventDateAfterOrderByEventDateAsc(LocalDate date);
 
@@ -25,4 +30,14 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     // Upcoming events including today
     List<Event> findByHiddenFalseAndEventDateGreaterThanEqualOrderByEventDateAsc(LocalDate date);
+
+    // Ownership ke saath delete (faculty): 0 = event nahi hai ya doosre club ka
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Event e WHERE e.eventId = :eventId AND e.clubId = :clubId")
+    int deleteByEventIdAndClubId(@Param("eventId") Long eventId, @Param("clubId") String clubId);
+
+    // Batch jobs ke liye sirf IDs, eventId order mein
+    @Query("SELECT e.eventId FROM Event e WHERE e.eventId > :afterId ORDER BY e.eventId")
+    List<Long> findEventIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
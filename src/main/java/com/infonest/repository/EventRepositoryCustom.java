@@ -0,0 +1,24 @@
+package com.infonest.repository;
+
+import com.infonest.dto.EventCursor;
+import com.infonest.dto.EventFilter;
+
+import java.util.List;
+
+public interface EventRepositoryCustom {
+
+    /**
+     * Keyset page, (eventDate, eventId) order mein.
+     *
+     * @param type  Event (poori row) ya EventSummary (bina description)
+     * @param after pichle page ka cursor, pehle page ke liye null
+     */
+    <T> List<T> findPage(EventFilter filter, EventCursor after, int limit, Class<T> type);
+
+    /**
+     * Filter ke saare events, (eventDate, eventId) order mein - chhoti, bina page wali lists ke liye.
+     *
+     * @param type Event (poori row) ya EventSummary (bina description)
+     */
+    <T> List<T> findMatching(EventFilter filter, Class<T> type);
+}
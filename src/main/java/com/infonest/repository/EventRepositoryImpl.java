@@ -0,0 +1,82 @@
+package com.infonest.repository;
+
+import com.infonest.dto.EventCursor;
+import com.infonest.dto.EventFilter;
+import com.infonest.dto.EventSummary;
+import com.infonest.model.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Spring Data EventRepository ke saath is fragment ko khud jod deta hai (naam ka "Impl" suffix)
+class EventRepositoryImpl implements EventRepositoryCustom {
+
+    private static final String SUMMARY_SELECT = "SELECT new " + EventSummary.class.getName()
+            + "(e.eventId, e.clubId, e.venueId, e.eventName, e.eventDate, e.eventTime, e.deadline, "
+            + "e.registrationFormLink, e.capacity, e.hidden)";
+
+    private static final String ORDER_BY = " ORDER BY e.eventDate ASC, e.eventId ASC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <T> List<T> findPage(EventFilter filter, EventCursor after, int limit, Class<T> type) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = select(filter, type, params);
+
+        // Keyset: (eventDate, eventId) > cursor. NULL dates MySQL mein ASC order mein pehle aati hain.
+        if (after != null) {
+            if (after.eventDate() == null) {
+                jpql.append(" AND (e.eventDate IS NOT NULL OR e.eventId > :afterId)");
+            } else {
+                jpql.append(" AND (e.eventDate > :afterDate OR (e.eventDate = :afterDate AND e.eventId > :afterId))");
+                params.put("afterDate", after.eventDate());
+            }
+            params.put("afterId", after.eventId());
+        }
+        jpql.append(ORDER_BY);
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), type);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public <T> List<T> findMatching(EventFilter filter, Class<T> type) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = select(filter, type, params).append(ORDER_BY);
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), type);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    // SELECT ... FROM Event e WHERE <filters>; params mein filter values bhar deta hai
+    private static StringBuilder select(EventFilter filter, Class<?> type, Map<String, Object> params) {
+        StringBuilder jpql = new StringBuilder(type == EventSummary.class ? SUMMARY_SELECT : "SELECT e")
+                .append(" FROM Event e WHERE 1 = 1");
+
+        if (filter.getClubId() != null) {
+            jpql.append(" AND e.clubId = :clubId");
+            params.put("clubId", filter.getClubId());
+        }
+        if (filter.getFrom() != null) {
+            jpql.append(" AND e.eventDate >= :from");
+            params.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            jpql.append(" AND e.eventDate <= :to");
+            params.put("to", filter.getTo());
+        }
+        if (filter.getHidden() != null) {
+            jpql.append(" AND e.hidden = :hidden");
+            params.put("hidden", filter.getHidden());
+        }
+        return jpql;
+    }
+}
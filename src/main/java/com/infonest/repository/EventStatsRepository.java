@@ -0,0 +1,75 @@
+package com.infonest.repository;
+
+import com.infonest.model.EventStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EventStatsRepository extends JpaRepository<EventStats, Long> {
+
+    // Atomic upsert: row na ho to ban jaati hai, ho to counters mein delta jud jaata hai
+    @Modifying
+    @Query(value = "INSERT INTO event_stats (event_id, total_count, applied_count, approved_count, rejected_count, waitlisted_count) "
+            + "VALUES (:eventId, :total, :applied, :approved, :rejected, :waitlisted) "
+            + "ON DUPLICATE KEY UPDATE total_count = total_count + :total, applied_count = applied_count + :applied, "
+            + "approved_count = approved_count + :approved, rejected_count = rejected_count + :rejected, "
+            + "waitlisted_count = waitlisted_count + :waitlisted",
+            nativeQuery = true)
+    int applyDelta(@Param("eventId") Long eventId,
+            @Param("total") long total,
+            @Param("applied") long applied,
+            @Param("approved") long approved,
+            @Param("rejected") long rejected,
+            @Param("waitlisted") long waitlisted);
+
+    // Seat ka conditional claim: capacity bachi ho tabhi naya APPLIED registration gina jaata hai.
+    // 0 rows = event full (ya stats row nahi hai) - DB hi final authority hai, isliye oversell nahi hota
+    @Modifying
+    @Query(value = "UPDATE event_stats SET total_count = total_count + 1, applied_count = applied_count + 1 "
+            + "WHERE event_id = :eventId AND total_count - rejected_count - waitlisted_count < :capacity",
+            nativeQuery = true)
+    int claimSeat(@Param("eventId") Long eventId, @Param("capacity") int capacity);
+
+    // Waitlist se promotion: WAITLISTED -> APPLIED, wahi capacity condition ke saath
+    @Modifying
+    @Query(value = "UPDATE event_stats SET waitlisted_count = waitlisted_count - 1, applied_count = applied_count + 1 "
+            + "WHERE event_id = :eventId AND waitlisted_count > 0 "
+            + "AND total_count - rejected_count - waitlisted_count < :capacity",
+            nativeQuery = true)
+    int claimSeatFromWaitlist(@Param("eventId") Long eventId, @Param("capacity") int capacity);
+
+    // Status change jisse registrations ko seat milti hai (WAITLISTED/REJECTED -> APPLIED/APPROVED): counters ka
+    // delta tabhi lagta hai jab :seats aur seats capacity mein aa jaayein. 0 rows = utni seats nahi bachi
+    @Modifying
+    @Query(value = "UPDATE event_stats SET applied_count = applied_count + :applied, "
+            + "approved_count = approved_count + :approved, rejected_count = rejected_count + :rejected, "
+            + "waitlisted_count = waitlisted_count + :waitlisted "
+            + "WHERE event_id = :eventId AND total_count - rejected_count - waitlisted_count + :seats <= :capacity",
+            nativeQuery = true)
+    int claimSeats(@Param("eventId") Long eventId,
+            @Param("seats") long seats,
+            @Param("capacity") int capacity,
+            @Param("applied") long applied,
+            @Param("approved") long approved,
+            @Param("rejected") long rejected,
+            @Param("waitlisted") long waitlisted);
+
+    // Reconciliation se pehle missing rows (zero counters) bana deta hai
+    @Modifying
+    @Query(value = "INSERT INTO event_stats (event_id, total_count, applied_count, approved_count, rejected_count, waitlisted_count) "
+            + "SELECT e.event_id, 0, 0, 0, 0, 0 FROM events e LEFT JOIN event_stats s ON s.event_id = e.event_id "
+            + "WHERE s.event_id IS NULL AND e.event_id IN (:eventIds)",
+            nativeQuery = true)
+    int insertMissing(@Param("eventIds") Collection<Long> eventIds);
+
+    // Row locks: reconciliation ke dauraan concurrent registrations ke deltas wait karte hain
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EventStats s WHERE s.eventId IN :eventIds")
+    List<EventStats> findAllForUpdate(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -1,13 +1,19 @@
 package com.infonest.repository;
 
+import com.infonest.dto.EventStatusCount;
+import com.infonest.dto.RegistrationFormData;
 import com.infonest.model.Registration;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface RegistrationRepository extends JpaRepository<Registration, Long> {
+public interface RegistrationRepository extends JpaRepository<Registration, Long>, RegistrationRepositoryCustom {
     // Kisi user ki history dekhne ke liye
     List<Registration> findByUserId(Long userId);
 
@@ -16,10 +22,33 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
 
     long countByEventId(Long eventId);
 
+    // Reconciliation: events ke batch ke liye (eventId, status) wise counts ek hi query mein
+    @Query("SELECT r.eventId AS eventId, r.status AS status, COUNT(r) AS registrationCount FROM Registration r "
+            + "WHERE r.eventId IN :eventIds GROUP BY r.eventId, r.status")
+    List<EventStatusCount> countByEventIdsGroupByStatus(@Param("eventIds") Collection<Long> eventIds);
+
+    // Status change ke liye row lock, taaki counters ka delta hamesha sahi purane status se bane
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Registration r WHERE r.regId = :regId")
+    Optional<Registration> findByIdForUpdate(@Param("regId") Long regId);
+
+    // Waitlist ka head (sabse purana WAITLISTED) row lock ke saath - promotion ke liye.
+    // excluded = isi change mein waitlist par bheji gayi rows (khaali nahi), jo apni hi chhodi seat wapas na le lein
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Registration r WHERE r.eventId = :eventId AND r.status = 'WAITLISTED' "
+            + "AND r.regId NOT IN :excluded ORDER BY r.regId")
+    List<Registration> findWaitlistHeadForUpdate(@Param("eventId") Long eventId,
+            @Param("excluded") Collection<Long> excluded, Pageable pageable);
+
     // Faculty ko event ke applicants dikhane ke liye
     List<Registration> findByEventId(Long eventId);
 
-    @Query("SELECT r FROM Registration r WHERE r.eventId IN (SELECT e.eventId FROM Event e WHERE e.clubId = :clubId)")
+    @Query("SELECT r FROM Registration r JOIN Event e ON e.eventId = r.eventId WHERE e.clubId = :clubId ORDER BY r.regId DESC")
     List<Registration> findAllByClubId(@Param("clubId") String clubId);
 
+    // Ek registration ka form data + uske event ka clubId (faculty ownership check ke liye), ek hi query mein
+    @Query("SELECT new com.infonest.dto.RegistrationFormData(r.regId, e.clubId, r.formData) "
+            + "FROM Registration r JOIN Event e ON e.eventId = r.eventId WHERE r.regId = :regId")
+    Optional<RegistrationFormData> findFormData(@Param("regId") Long regId);
+
 }
@@ -0,0 +1,17 @@
+package com.infonest.repository;
+
+import com.infonest.dto.RegistrationSummary;
+
+import java.util.List;
+
+public interface RegistrationRepositoryCustom {
+
+    /**
+     * Club ke registrations ka keyset page, naye pehle (regId DESC). formData select nahi hota.
+     *
+     * @param eventId    sirf is event ke, null = club ke saare events
+     * @param status     sirf is status ke, null = saare
+     * @param afterRegId pichle page ka aakhri regId, pehle page ke liye null
+     */
+    List<RegistrationSummary> findClubSubmissions(String clubId, Long eventId, String status, Long afterRegId, int limit);
+}
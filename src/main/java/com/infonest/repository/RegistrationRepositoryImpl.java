@@ -0,0 +1,49 @@
+package com.infonest.repository;
+
+import com.infonest.dto.RegistrationSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Spring Data RegistrationRepository ke saath is fragment ko khud jod deta hai (naam ka "Impl" suffix)
+class RegistrationRepositoryImpl implements RegistrationRepositoryCustom {
+
+    private static final String SUMMARY_SELECT = "SELECT new " + RegistrationSummary.class.getName()
+            + "(r.regId, r.eventId, e.eventName, r.userId, r.status, r.submissionDate, "
+            + "CASE WHEN r.formData IS NULL THEN false ELSE true END)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RegistrationSummary> findClubSubmissions(String clubId, Long eventId, String status, Long afterRegId,
+            int limit) {
+        // Join (IN subquery nahi): events club_id index se, registrations (event_id, status, reg_id) index se
+        StringBuilder jpql = new StringBuilder(SUMMARY_SELECT)
+                .append(" FROM Registration r JOIN Event e ON e.eventId = r.eventId WHERE e.clubId = :clubId");
+        Map<String, Object> params = new HashMap<>();
+        params.put("clubId", clubId);
+
+        if (eventId != null) {
+            jpql.append(" AND r.eventId = :eventId");
+            params.put("eventId", eventId);
+        }
+        if (status != null) {
+            jpql.append(" AND r.status = :status");
+            params.put("status", status);
+        }
+        if (afterRegId != null) {
+            jpql.append(" AND r.regId < :afterRegId");
+            params.put("afterRegId", afterRegId);
+        }
+        jpql.append(" ORDER BY r.regId DESC");
+
+        TypedQuery<RegistrationSummary> query = entityManager.createQuery(jpql.toString(), RegistrationSummary.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
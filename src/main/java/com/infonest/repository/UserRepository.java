@@ -1,14 +1,21 @@
 package com.infonest.repository;
 
+import com.infonest.dto.UserSummary;
 import com.infonest.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email); // For checking login
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+    // findByEmail (login, profile, check-role) UserRepositoryCustom mein - natural-id cache se
 
-    List<User> findByClubId(String clubId);
+    // List views: password column select hi nahi hota
+    @Query("SELECT new com.infonest.dto.UserSummary(u.userId, u.firstName, u.lastName, u.email, u.role, u.clubId) "
+            + "FROM User u WHERE u.clubId = :clubId ORDER BY u.userId")
+    List<UserSummary> findSummariesByClubId(@Param("clubId") String clubId);
 
-    List<User> findByRole(String role); // For getting all faculty
-}
\ No newline at end of file
+    @Query("SELECT new com.infonest.dto.UserSummary(u.userId, u.firstName, u.lastName, u.email, u.role, u.clubId) "
+            + "FROM User u WHERE u.role = :role ORDER BY u.userId")
+    List<UserSummary> findSummariesByRole(@Param("role") String role); // For getting all faculty
+}
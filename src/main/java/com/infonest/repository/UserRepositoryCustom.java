@@ -0,0 +1,11 @@
+package com.infonest.repository;
+
+import com.infonest.model.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // Email natural id hai - lookup natural-id cache se (derived query har baar SQL chalati)
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,29 @@
+package com.infonest.repository;
+
+import com.infonest.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// Spring Data UserRepository ke saath is fragment ko khud jod deta hai (naam ka "Impl" suffix)
+class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Transaction ke bina shared EntityManager ka unwrap kiya Session turant band ho jaata hai
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        // email -> userId "user-email" region se, entity "user" region se; dono miss par hi SQL
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -0,0 +1,84 @@
+package com.infonest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login/signup ke liye token buckets: ek per client IP, ek per email. Dono mein token hona chahiye,
+ * warna TooManyRequestsException (BCrypt tak request pahunchti hi nahi).
+ * Buckets in-memory aur bounded hain; kuch der use na ho to khud hat jaate hain.
+ */
+@Component
+public class AuthRateLimiter {
+
+    @Value("${infonest.auth.rate.ip.capacity:30}")
+    private int ipCapacity;
+
+    @Value("${infonest.auth.rate.ip.per-minute:30}")
+    private int ipPerMinute;
+
+    @Value("${infonest.auth.rate.email.capacity:10}")
+    private int emailCapacity;
+
+    @Value("${infonest.auth.rate.email.per-minute:10}")
+    private int emailPerMinute;
+
+    private Cache<String, TokenBucket> buckets;
+
+    @PostConstruct
+    void init() {
+        buckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    public void check(String clientIp, String email) {
+        acquire("ip:" + clientIp, ipCapacity, ipPerMinute);
+        if (email != null) {
+            acquire("email:" + email.trim().toLowerCase(Locale.ROOT), emailCapacity, emailPerMinute);
+        }
+    }
+
+    private void acquire(String key, int capacity, int perMinute) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, perMinute));
+        long waitNanos = bucket.tryConsume();
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            throw new TooManyRequestsException("Too many attempts, please try again in " + retryAfter + " seconds.", retryAfter);
+        }
+    }
+
+    static final class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int capacity, int perMinute) {
+            this.capacity = capacity;
+            this.tokensPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        // 0 = token mil gaya, warna agle token tak kitne nanos
+        synchronized long tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+    }
+}
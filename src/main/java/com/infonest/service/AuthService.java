@@ -6,7 +6,6 @@ import com.infonest.repository.ClubRepository;
 import com.infonest.dto.*;
 import com.infonest.config.JwtUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -21,12 +20,16 @@ public class AuthService {
     @Autowired
     private ClubRepository clubRepository;
 
+    // BCrypt apne bounded pool par (request thread par nahi)
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     // Allowed email domains
     private static final String[] ALLOWED_DOMAINS = { "@banasthali.in", "@gmail.com" };
 
@@ -35,9 +38,9 @@ public class AuthService {
     private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile("[!@#$%^&*(),.?\":{}|<>_\\-+=\\[\\]\\\\;'/`~]");
 
     /**
-     * Validate email domain
+     * Validate email domain (package-private: src/jmh benchmark bhi call karta hai)
      */
-    private boolean isValidEmailDomain(String email) {
+    boolean isValidEmailDomain(String email) {
         if (email == null)
             return false;
         for (String domain : ALLOWED_DOMAINS) {
@@ -49,9 +52,9 @@ public class AuthService {
     }
 
     /**
-     * Validate password strength
+     * Validate password strength (package-private: src/jmh benchmark bhi call karta hai)
      */
-    private String validatePassword(String password) {
+    String validatePassword(String password) {
         if (password == null || password.length() < 8) {
             return "Password must be at least 8 characters long!";
         }
@@ -105,7 +108,7 @@ public class AuthService {
         }
 
         // 5. Encrypt password using BCrypt
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
 
         // 6. Save to MySQL
         userRepository.save(user);
@@ -132,21 +135,52 @@ public class AuthService {
         User user = userOpt.get();
 
         // 4. Compare plain password with encrypted password in DB
-        if (passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+
+            // Hash purane (kam) cost ka hai to sahi password se naya hash - user ko pata bhi nahi chalta
+            if (passwordHashingService.needsRehash(user.getPassword())) {
+                String upgraded = passwordHashingService.tryEncode(request.getPassword());
+                if (upgraded != null) {
+                    user.setPassword(upgraded);
+                    userRepository.save(user);
+                }
+            }
 
-            // 5. Generate JWT Token
+            // 5. Generate JWT Token (short-lived) + refresh token
             String token = jwtUtils.generateToken(user.getEmail(), user.getRole(), user.getClubId());
+            String refreshToken = refreshTokenService.issue(user.getUserId());
 
             // 6. Return data for frontend
-            return new AuthResponse(
-                    token,
-                    user.getRole(),
-                    user.getFirstName(),
-                    user.getClubId(),
-                    user.getUserId(),
-                    user.getEmail());
+            return toResponse(user, token, refreshToken);
         } else {
             throw new RuntimeException("Error: Incorrect password!");
         }
     }
+
+    /**
+     * Refresh Logic - password/BCrypt nahi, sirf refresh token rotation + user ka primary-key lookup
+     */
+    public AuthResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = userRepository.findById(rotation.userId())
+                .orElseThrow(() -> new InvalidRefreshTokenException("Account no longer exists. Please sign up again."));
+
+        String token = jwtUtils.generateToken(user.getEmail(), user.getRole(), user.getClubId());
+        return toResponse(user, token, rotation.refreshToken());
+    }
+
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
+
+    private AuthResponse toResponse(User user, String token, String refreshToken) {
+        return new AuthResponse(
+                token,
+                user.getRole(),
+                user.getFirstName(),
+                user.getClubId(),
+                user.getUserId(),
+                user.getEmail(),
+                refreshToken);
+    }
 }
\ No newline at end of file
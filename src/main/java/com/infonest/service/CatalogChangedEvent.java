@@ -0,0 +1,28 @@
+package com.infonest.service;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Public catalog (events/clubs) mein write hua. Listeners isse exact cache keys evict karte hain.
+ *
+ * @param clubIds       jin clubs ki event listing badli (update mein purana aur naya dono club)
+ * @param eventsChanged upcoming events listing affect hui
+ * @param clubsChanged  clubs listing affect hui
+ */
+public record CatalogChangedEvent(Set<String> clubIds, boolean eventsChanged, boolean clubsChanged) {
+
+    public static CatalogChangedEvent events(String... clubIds) {
+        return new CatalogChangedEvent(toSet(clubIds), true, false);
+    }
+
+    public static CatalogChangedEvent clubs(String... clubIds) {
+        return new CatalogChangedEvent(toSet(clubIds), false, true);
+    }
+
+    private static Set<String> toSet(String... clubIds) {
+        return Stream.of(clubIds).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,62 @@
+package com.infonest.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Public catalog ke monotonic revisions - har event/club write par bump hote hain.
+ * ETags inhi se bante hain, isliye If-None-Match check ke liye DB ya serialization ki zaroorat nahi.
+ * Boot epoch ETag mein hai, taaki restart ke baad purane ETags kabhi match na karein.
+ * Controller pehle revision padhta hai aur usi se ETag aur cache key dono banta hai - data aur ETag ek hi revision ke.
+ */
+@Component
+public class CatalogRevisions {
+
+    private final long bootEpoch = System.currentTimeMillis();
+
+    // Ek hi global counter; club-wise revision = us club ke last write ke waqt ki value
+    private final AtomicLong counter = new AtomicLong();
+    private volatile long eventsRevision;
+    private volatile long clubsRevision;
+    private final Map<String, Long> clubEventRevisions = new ConcurrentHashMap<>();
+
+    // Cached lists ki key mein revision hai, isliye bump ke beech chal raha purana load naye revision ki key tak nahi pahunchta
+    void bump(CatalogChangedEvent event) {
+        long revision = counter.incrementAndGet();
+        if (event.eventsChanged()) {
+            eventsRevision = revision;
+            event.clubIds().forEach(clubId -> clubEventRevisions.put(clubId, revision));
+        }
+        if (event.clubsChanged()) {
+            clubsRevision = revision;
+        }
+    }
+
+    public long eventsRevision() {
+        return eventsRevision;
+    }
+
+    public long clubEventsRevision(String clubId) {
+        return clubEventRevisions.getOrDefault(clubId, 0L);
+    }
+
+    public long clubsRevision() {
+        return clubsRevision;
+    }
+
+    public String upcomingEventsEtag(LocalDate today, long revision) {
+        return "\"ev-" + bootEpoch + "-" + revision + "-" + today + "\"";
+    }
+
+    public String clubEventsEtag(long revision) {
+        return "\"ce-" + bootEpoch + "-" + revision + "\"";
+    }
+
+    public String clubsEtag(long revision) {
+        return "\"cl-" + bootEpoch + "-" + revision + "\"";
+    }
+}
@@ -0,0 +1,86 @@
+package com.infonest.service;
+
+import com.infonest.model.Club;
+import com.infonest.model.Event;
+import com.infonest.repository.ClubRepository;
+import com.infonest.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Public, read-heavy listings ka read-through cache. Har key mein catalog revision hai (CatalogRevisions):
+ * write hote hi revision badhta hai aur naye ETag wali requests nayi key par DB se load karti hain. Write ke
+ * beech shuru hua load apna (purana) result purane revision ki key par hi rakh sakta hai, jise koi nahi padhta.
+ */
+@Service
+public class CatalogService {
+
+    public static final String UPCOMING_EVENTS = "upcomingEvents";
+    public static final String CLUB_EVENTS = "clubEvents";
+    public static final String CLUBS = "clubs";
+
+    private static final String ALL_CLUBS_KEY = "all";
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CatalogRevisions catalogRevisions;
+
+    // Key mein date hai, isliye din badalte hi naya entry banta hai; revision sirf key ke liye hai
+    @Cacheable(cacheNames = UPCOMING_EVENTS, key = "#today + ':' + #revision", sync = true)
+    public List<Event> getUpcomingEvents(LocalDate today, long revision) {
+        return eventRepository.findByHiddenFalseAndEventDateGreaterThanEqualOrderByEventDateAsc(today);
+    }
+
+    @Cacheable(cacheNames = CLUB_EVENTS, key = "#clubId + ':' + #revision", sync = true)
+    public List<Event> getVisibleEventsByClub(String clubId, long revision) {
+        return eventRepository.findByClubIdAndHiddenFalseOrderByEventDateAsc(clubId);
+    }
+
+    @Cacheable(cacheNames = CLUBS, key = "'" + ALL_CLUBS_KEY + ":' + #revision", sync = true)
+    public List<Club> getAllClubs(long revision) {
+        return clubRepository.findAllByOrderByClubNameAsc();
+    }
+
+    // Transaction ke andar publish hua ho to commit ke baad, warna turant
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Map<String, Long> previousClubRevisions = new HashMap<>();
+        event.clubIds().forEach(clubId ->
+                previousClubRevisions.put(clubId, catalogRevisions.clubEventsRevision(clubId)));
+        long previousClubsRevision = catalogRevisions.clubsRevision();
+
+        // Pehle bump: iske baad aane wali requests nayi keys par jaati hain
+        catalogRevisions.bump(event);
+
+        // Purani keys ab koi nahi padhta - evict sirf memory ke liye (beech mein aaya late put TTL se jaayega)
+        if (event.eventsChanged()) {
+            // Upcoming cache ki keys sirf dates hain (aam taur par ek hi) - sab purani hain
+            cache(UPCOMING_EVENTS).clear();
+            previousClubRevisions.forEach((clubId, revision) -> cache(CLUB_EVENTS).evict(clubId + ":" + revision));
+        }
+        if (event.clubsChanged()) {
+            cache(CLUBS).evict(ALL_CLUBS_KEY + ":" + previousClubsRevision);
+        }
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
@@ -0,0 +1,200 @@
+package com.infonest.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Faculty read endpoints ke ownership checks ke liye in-memory index: eventId -> clubId, primitive long map mein
+ * (boxing nahi; clubId string ek chhote int code mein intern hota hai). Reads bahut, writes kam - StampedLock
+ * read lock ke neeche kai threads saath padh sakte hain. Writes (status change, event edit/delete, form schema)
+ * ise use nahi karte - wo ownership DB se check karte hain.
+ *
+ * Miss par DB se ek chhoti query aur index mein daal dete hain. Event delete hone par forgetEvent();
+ * beech mein delete hua to fallback ka result index mein nahi jaata (removal stamp se pata chalta hai).
+ * Events ka map periodically DB se dobara banta hai - jitni entries galat nikli wo "stale" counter mein.
+ */
+@Component
+public class ClubOwnershipIndex {
+
+    private static final int NO_CLUB = -1;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final StampedLock lock = new StampedLock();
+    private final Long2IntOpenHashMap eventClubs = new Long2IntOpenHashMap();
+    // clubId <-> code (clubs gine-chune hain)
+    private final List<String> clubNames = new ArrayList<>();
+    private final Map<String, Integer> clubCodes = new HashMap<>();
+
+    // Har event removal par badhta hai - fallback isse dekhta hai ki beech mein delete to nahi hua
+    private final AtomicLong removals = new AtomicLong();
+    private final AtomicLong lastRefreshMillis = new AtomicLong();
+
+    private Counter hits;
+    private Counter misses;
+    private Counter absent;
+    private Counter stale;
+
+    @PostConstruct
+    void init() {
+        eventClubs.defaultReturnValue(NO_CLUB);
+
+        Gauge.builder("infonest.authz.index.size", this, ClubOwnershipIndex::size)
+                .tag("kind", "events")
+                .description("Entries in the eventId -> clubId ownership index")
+                .register(meterRegistry);
+        Gauge.builder("infonest.authz.index.age", lastRefreshMillis,
+                        last -> last.get() == 0 ? 0 : (System.currentTimeMillis() - last.get()) / 1000.0)
+                .baseUnit("seconds")
+                .description("Seconds since the event ownership index was last rebuilt from the database")
+                .register(meterRegistry);
+        hits = meterRegistry.counter("infonest.authz.lookups", "result", "hit");
+        misses = meterRegistry.counter("infonest.authz.lookups", "result", "miss");
+        absent = meterRegistry.counter("infonest.authz.lookups", "result", "absent");
+        stale = meterRegistry.counter("infonest.authz.index.stale");
+    }
+
+    public boolean ownsEvent(String clubId, Long eventId) {
+        return clubId != null && clubId.equals(clubOfEvent(eventId));
+    }
+
+    /**
+     * @return event ka clubId, ya null agar event nahi hai
+     */
+    public String clubOfEvent(Long eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        long stamp = lock.readLock();
+        try {
+            int code = eventClubs.get(eventId.longValue());
+            if (code != NO_CLUB) {
+                hits.increment();
+                return clubNames.get(code);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        misses.increment();
+        long removalsBefore = removals.get();
+        List<String> rows = jdbcTemplate.queryForList("SELECT club_id FROM events WHERE event_id = ?", String.class, eventId);
+        if (rows.isEmpty()) {
+            absent.increment();
+            return null;
+        }
+        String clubId = rows.get(0);
+        if (clubId != null) {
+            putEvent(eventId, clubId, removalsBefore);
+        }
+        return clubId;
+    }
+
+    // Event delete hua (commit ke baad bhi call ho sakta hai - idempotent)
+    public void forgetEvent(Long eventId) {
+        long stamp = lock.writeLock();
+        try {
+            removals.incrementAndGet();
+            eventClubs.remove(eventId.longValue());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * events table se poora eventId -> clubId map dobara. Jo entries DB se alag nikli wo stale counter mein.
+     */
+    @Scheduled(initialDelayString = "${infonest.authz.refresh-initial-delay-ms:0}",
+            fixedDelayString = "${infonest.authz.refresh-ms:600000}")
+    public void refresh() {
+        long removalsBefore = removals.get();
+        Long2IntOpenHashMap fresh = new Long2IntOpenHashMap();
+        fresh.defaultReturnValue(NO_CLUB);
+        Map<String, Integer> freshCodes = new HashMap<>();
+        List<String> freshNames = new ArrayList<>();
+        jdbcTemplate.query("SELECT event_id, club_id FROM events WHERE club_id IS NOT NULL", rs -> {
+            String clubId = rs.getString("club_id");
+            Integer code = freshCodes.get(clubId);
+            if (code == null) {
+                code = freshNames.size();
+                freshNames.add(clubId);
+                freshCodes.put(clubId, code);
+            }
+            fresh.put(rs.getLong("event_id"), code.intValue());
+        });
+
+        long stamp = lock.writeLock();
+        try {
+            if (removals.get() != removalsBefore) {
+                // Scan ke beech event delete hua - agli baar dobara; miss fallback tab tak sahi rakhta hai
+                return;
+            }
+            long staleEntries = 0;
+            for (Long2IntMap.Entry entry : eventClubs.long2IntEntrySet()) {
+                int freshCode = fresh.get(entry.getLongKey());
+                if (freshCode == NO_CLUB || !freshNames.get(freshCode).equals(clubNames.get(entry.getIntValue()))) {
+                    staleEntries++;
+                }
+            }
+            stale.increment(staleEntries);
+
+            eventClubs.clear();
+            eventClubs.putAll(fresh);
+            eventClubs.trim();
+            clubNames.clear();
+            clubNames.addAll(freshNames);
+            clubCodes.clear();
+            clubCodes.putAll(freshCodes);
+            lastRefreshMillis.set(System.currentTimeMillis());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void putEvent(long eventId, String clubId, long removalsBefore) {
+        long stamp = lock.writeLock();
+        try {
+            if (removals.get() != removalsBefore) {
+                // DB read ke baad koi event delete hua - shayad yahi; index mein mat daalo
+                return;
+            }
+            Integer code = clubCodes.get(clubId);
+            if (code == null) {
+                code = clubNames.size();
+                clubNames.add(clubId);
+                clubCodes.put(clubId, code);
+            }
+            eventClubs.put(eventId, code.intValue());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private int size() {
+        long stamp = lock.readLock();
+        try {
+            return eventClubs.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.infonest.service;
+
+/**
+ * Status change se registration ko seat milni thi par event ki capacity bhari hai. Controller isse 409 banata hai.
+ */
+public class EventFullException extends RuntimeException {
+
+    public EventFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,74 @@
+package com.infonest.service;
+
+import com.infonest.dto.EventCursor;
+import com.infonest.dto.EventFilter;
+import com.infonest.dto.EventPage;
+import com.infonest.dto.EventSummary;
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Events ki listings (keyset pages aur chhoti poori lists). Default response EventSummary hai - description
+ * (TEXT) column select hi nahi hota; fields= mein description maanga ho tabhi poori row aati hai.
+ * fields= diya ho to har item mein sirf wahi properties (SparseFields).
+ */
+@Service
+public class EventListingService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Value("${infonest.events.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${infonest.events.page.max-size:100}")
+    private int maxPageSize;
+
+    public EventPage<?> listEvents(EventFilter filter, String cursor, Integer size, String fields) {
+        EventCursor after = cursor != null && !cursor.isBlank() ? EventCursor.decode(cursor) : null;
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+
+        SparseFields selection = SparseFields.parse(fields);
+
+        EventPage<?> page;
+        if (selection.requested("description")) {
+            page = page(eventRepository.findPage(filter, after, pageSize + 1, Event.class), pageSize,
+                    event -> new EventCursor(event.getEventDate(), event.getEventId()));
+        } else {
+            page = page(eventRepository.findPage(filter, after, pageSize + 1, EventSummary.class), pageSize,
+                    event -> new EventCursor(event.getEventDate(), event.getEventId()));
+        }
+        // Cursor poori rows se ban chuka hai - ab trim karne se farak nahi padta
+        return new EventPage<>(selection.apply(jsonMapper, page.getItems()), page.getNextCursor());
+    }
+
+    /**
+     * Filter ke saare events, bina pagination (ek club ke events, admin ki poori list).
+     */
+    public List<?> listAll(EventFilter filter, String fields) {
+        SparseFields selection = SparseFields.parse(fields);
+        if (selection.requested("description")) {
+            return selection.apply(jsonMapper, eventRepository.findMatching(filter, Event.class));
+        }
+        return selection.apply(jsonMapper, eventRepository.findMatching(filter, EventSummary.class));
+    }
+
+    // Ek extra row fetch karke pata chalta hai ki agla page hai ya nahi (COUNT query ke bina)
+    private static <T> EventPage<T> page(List<T> rows, int pageSize, Function<T, EventCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new EventPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new EventPage<>(items, cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+}
@@ -0,0 +1,95 @@
+package com.infonest.service;
+
+import com.infonest.dto.StatsReconciliationReport;
+import com.infonest.repository.EventRepository;
+import com.infonest.repository.EventStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * event_stats ko registrations table ke against batches mein verify/fix karta hai aur drift report karta hai.
+ */
+@Component
+public class EventStatsReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStatsReconciler.class);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Autowired
+    private EventStatsService eventStatsService;
+
+    @Value("${infonest.stats.reconcile-batch-size:500}")
+    private int batchSize;
+
+    private volatile StatsReconciliationReport lastReport;
+
+    // synchronized nahi: andar JDBC calls hain, aur virtual thread synchronized mein carrier ko pin kar deta hai
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    // Pehli deployment par (event_stats khaali) counters backfill karne ke liye
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (eventStatsRepository.count() == 0 && eventRepository.count() > 0) {
+            log.info("event_stats is empty, backfilling counters");
+            reconcileAll();
+        }
+    }
+
+    @Scheduled(cron = "${infonest.stats.reconcile-cron:0 30 3 * * *}")
+    public StatsReconciliationReport reconcileAll() {
+        reconcileLock.lock();
+        try {
+            return reconcile();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private StatsReconciliationReport reconcile() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        long scanned = 0;
+        long eventsWithDrift = 0;
+        long totalDrift = 0;
+
+        Long afterId = 0L;
+        List<Long> batch;
+        while (!(batch = eventRepository.findEventIdsAfter(afterId, PageRequest.of(0, batchSize))).isEmpty()) {
+            long[] drift = eventStatsService.reconcileBatch(batch);
+            scanned += batch.size();
+            eventsWithDrift += drift[0];
+            totalDrift += drift[1];
+            afterId = batch.get(batch.size() - 1);
+        }
+
+        StatsReconciliationReport report = new StatsReconciliationReport(
+                startedAt, System.currentTimeMillis() - start, scanned, eventsWithDrift, totalDrift);
+        if (eventsWithDrift > 0) {
+            log.warn("Event stats drift fixed: {} of {} events, total drift {}", eventsWithDrift, scanned, totalDrift);
+        } else {
+            log.info("Event stats reconciled: {} events, no drift", scanned);
+        }
+        lastReport = report;
+        return report;
+    }
+
+    public StatsReconciliationReport getLastReport() {
+        return lastReport;
+    }
+}
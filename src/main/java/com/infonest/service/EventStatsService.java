@@ -0,0 +1,192 @@
+package com.infonest.service;
+
+import com.infonest.dto.EventStatusCount;
+import com.infonest.model.EventStats;
+import com.infonest.repository.EventStatsRepository;
+import com.infonest.repository.RegistrationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * event_stats counters maintain karta hai. Write methods caller ke transaction mein chalte hain,
+ * isliye counter update registration insert/status change ke saath hi commit ya rollback hota hai.
+ */
+@Service
+public class EventStatsService {
+
+    public static final String APPLIED = "APPLIED";
+    public static final String APPROVED = "APPROVED";
+    public static final String REJECTED = "REJECTED";
+    public static final String WAITLISTED = "WAITLISTED";
+
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    /**
+     * Naya registration insert hua
+     */
+    public void recordRegistration(Long eventId, String status) {
+        long[] delta = bucket(status, 1);
+        eventStatsRepository.applyDelta(eventId, 1, delta[0], delta[1], delta[2], delta[3]);
+    }
+
+    /**
+     * Capacity wale event mein naye APPLIED registration ke liye seat lo (counter update isi mein hota hai,
+     * recordRegistration alag se call nahi karna). false = event full.
+     */
+    public boolean claimSeat(Long eventId, int capacity) {
+        return eventStatsRepository.claimSeat(eventId, capacity) == 1;
+    }
+
+    /**
+     * Waitlist head ko seat dene ke liye (WAITLISTED -> APPLIED counters). false = seat free nahi hai.
+     */
+    public boolean claimSeatFromWaitlist(Long eventId, int capacity) {
+        return eventStatsRepository.claimSeatFromWaitlist(eventId, capacity) == 1;
+    }
+
+    // Stats row pehle se bana do taaki claimSeat ka conditional UPDATE use dhoondh sake
+    public void ensureRow(Long eventId) {
+        eventStatsRepository.applyDelta(eventId, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Registration ka status from -> to badla
+     */
+    public void recordStatusChange(Long eventId, String from, String to) {
+        long[] removed = bucket(from, -1);
+        long[] added = bucket(to, 1);
+        eventStatsRepository.applyDelta(eventId, 0,
+                removed[0] + added[0], removed[1] + added[1], removed[2] + added[2], removed[3] + added[3]);
+    }
+
+    /**
+     * Ek event ke kai registrations ek saath "to" status mein gaye (bulk update) - ek hi upsert.
+     *
+     * @param fromCounts purana status -> kitne registrations
+     */
+    public void recordStatusChanges(Long eventId, Map<String, Long> fromCounts, String to) {
+        long[] delta = statusChangeDelta(fromCounts, to);
+        eventStatsRepository.applyDelta(eventId, 0, delta[0], delta[1], delta[2], delta[3]);
+    }
+
+    /**
+     * Seat-less registrations (REJECTED / WAITLISTED) seat wale status "to" mein ja rahe hain. Capacity check aur
+     * counters ka delta ek hi conditional UPDATE mein; false = itni seats nahi bachi, kuch nahi badla.
+     *
+     * @param fromCounts purana (seat-less) status -> kitne registrations; har ek ko ek seat chahiye
+     */
+    public boolean claimSeatsForStatusChange(Long eventId, Map<String, Long> fromCounts, String to, int capacity) {
+        long seats = fromCounts.values().stream().mapToLong(Long::longValue).sum();
+        long[] delta = statusChangeDelta(fromCounts, to);
+        return eventStatsRepository.claimSeats(eventId, seats, capacity, delta[0], delta[1], delta[2], delta[3]) == 1;
+    }
+
+    public Map<Long, EventStats> findByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        return eventStatsRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(EventStats::getEventId, Function.identity()));
+    }
+
+    /**
+     * Events ke ek batch ke counters registrations table se dobara compute karke fix karta hai.
+     * Stats rows lock hone ke baad count hota hai, isliye beech mein aaye registrations ka delta
+     * is transaction ke commit ke baad apply hota hai aur kuch overwrite nahi hota.
+     *
+     * @return {eventsWithDrift, totalDrift}
+     */
+    @Transactional
+    public long[] reconcileBatch(List<Long> eventIds) {
+        eventStatsRepository.insertMissing(eventIds);
+        List<EventStats> stored = eventStatsRepository.findAllForUpdate(eventIds);
+
+        Map<Long, EventStats> expected = new HashMap<>();
+        for (Long eventId : eventIds) {
+            EventStats stats = new EventStats();
+            stats.setEventId(eventId);
+            expected.put(eventId, stats);
+        }
+        for (EventStatusCount count : registrationRepository.countByEventIdsGroupByStatus(eventIds)) {
+            EventStats stats = expected.get(count.getEventId());
+            long[] delta = bucket(count.getStatus(), count.getRegistrationCount());
+            stats.setTotalCount(stats.getTotalCount() + count.getRegistrationCount());
+            stats.setAppliedCount(stats.getAppliedCount() + delta[0]);
+            stats.setApprovedCount(stats.getApprovedCount() + delta[1]);
+            stats.setRejectedCount(stats.getRejectedCount() + delta[2]);
+            stats.setWaitlistedCount(stats.getWaitlistedCount() + delta[3]);
+        }
+
+        long eventsWithDrift = 0;
+        long totalDrift = 0;
+        for (EventStats actual : stored) {
+            EventStats wanted = expected.get(actual.getEventId());
+            long drift = Math.abs(actual.getTotalCount() - wanted.getTotalCount())
+                    + Math.abs(actual.getAppliedCount() - wanted.getAppliedCount())
+                    + Math.abs(actual.getApprovedCount() - wanted.getApprovedCount())
+                    + Math.abs(actual.getRejectedCount() - wanted.getRejectedCount())
+                    + Math.abs(actual.getWaitlistedCount() - wanted.getWaitlistedCount());
+            if (drift > 0) {
+                eventsWithDrift++;
+                totalDrift += drift;
+                // Managed entity hai - commit par dirty checking se update ho jaayega
+                actual.setTotalCount(wanted.getTotalCount());
+                actual.setAppliedCount(wanted.getAppliedCount());
+                actual.setApprovedCount(wanted.getApprovedCount());
+                actual.setRejectedCount(wanted.getRejectedCount());
+                actual.setWaitlistedCount(wanted.getWaitlistedCount());
+            }
+        }
+        return new long[] { eventsWithDrift, totalDrift };
+    }
+
+    // Seat sirf REJECTED aur WAITLISTED ke paas nahi hoti (unknown status bhi seat rakhta hai)
+    public static boolean holdsSeat(String status) {
+        return !REJECTED.equalsIgnoreCase(status) && !WAITLISTED.equalsIgnoreCase(status);
+    }
+
+    // fromCounts ke saare registrations "to" mein gaye - {applied, approved, rejected, waitlisted} ka delta
+    private static long[] statusChangeDelta(Map<String, Long> fromCounts, String to) {
+        long moved = 0;
+        long[] delta = new long[4];
+        for (Map.Entry<String, Long> from : fromCounts.entrySet()) {
+            long[] removed = bucket(from.getKey(), -from.getValue());
+            for (int i = 0; i < delta.length; i++) {
+                delta[i] += removed[i];
+            }
+            moved += from.getValue();
+        }
+        long[] added = bucket(to, moved);
+        for (int i = 0; i < delta.length; i++) {
+            delta[i] += added[i];
+        }
+        return delta;
+    }
+
+    // {applied, approved, rejected, waitlisted} - unknown status sirf total mein ginaa jaata hai
+    private static long[] bucket(String status, long amount) {
+        long[] delta = new long[4];
+        if (APPLIED.equalsIgnoreCase(status)) {
+            delta[0] = amount;
+        } else if (APPROVED.equalsIgnoreCase(status)) {
+            delta[1] = amount;
+        } else if (REJECTED.equalsIgnoreCase(status)) {
+            delta[2] = amount;
+        } else if (WAITLISTED.equalsIgnoreCase(status)) {
+            delta[3] = amount;
+        }
+        return delta;
+    }
+}
@@ -0,0 +1,416 @@
+package com.infonest.service;
+
+import com.infonest.dto.ApplicantCursor;
+import com.infonest.dto.ApplicantPage;
+import com.infonest.dto.ApplicantSummary;
+import com.infonest.model.EventFormField;
+import com.infonest.repository.EventFormFieldRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Registration formData ke declared fields (event_form_fields) ko registration_answers mein rakhta hai,
+ * aur un answers par DB-side filter/sort deta hai - applicants memory mein load kiye bina.
+ *
+ * Answers form flush ke saath (same transaction) likhe jaate hain; schema badalne par event ka backfill
+ * registrations.form_data se batch mein hota hai.
+ */
+@Service
+public class FormAnswerService {
+
+    public static final String TEXT = "TEXT";
+    public static final String NUMBER = "NUMBER";
+
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private static final String INSERT_SQL = "INSERT INTO registration_answers (reg_id, event_id, field_key, text_value, number_value) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private record Answer(long regId, long eventId, String fieldKey, String text, BigDecimal number) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private EventFormFieldRepository formFieldRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${infonest.forms.answers.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    @Value("${infonest.forms.answers.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${infonest.forms.answers.page.max-size:200}")
+    private int maxPageSize;
+
+    public List<EventFormField> getSchema(Long eventId) {
+        return formFieldRepository.findByEventIdOrderBySortOrderAscFieldIdAsc(eventId);
+    }
+
+    /**
+     * Event ka form schema poora badal deta hai aur purane registrations ke answers dobara banata hai.
+     * Faculty ownership usi transaction mein event row lock karke DB se check hoti hai (ownership index
+     * doosre instance ka admin reassignment refresh tak nahi dekhta).
+     *
+     * @return naya schema, ya null agar event clubId ka nahi hai (kuch nahi badla)
+     * @throws IllegalArgumentException field key khaali / duplicate / bahut lamba, ya type galat
+     * @throws NoSuchElementException   event nahi hai
+     */
+    public List<EventFormField> replaceSchema(Long eventId, String clubId, List<EventFormField> fields) {
+        Set<String> keys = new HashSet<>();
+        for (EventFormField field : fields) {
+            String key = field.getFieldKey() == null ? "" : field.getFieldKey().trim();
+            if (key.isEmpty() || key.length() > MAX_KEY_LENGTH || !keys.add(key)) {
+                throw new IllegalArgumentException("Invalid or duplicate field key: " + field.getFieldKey());
+            }
+            String type = field.getType() == null ? TEXT : field.getType().trim().toUpperCase(Locale.ROOT);
+            if (!TEXT.equals(type) && !NUMBER.equals(type)) {
+                throw new IllegalArgumentException("Field type must be TEXT or NUMBER: " + field.getType());
+            }
+            field.setFieldKey(key);
+            field.setType(type);
+        }
+
+        List<EventFormField> saved = transactionTemplate.execute(status -> {
+            List<String> owner = jdbcTemplate.queryForList("SELECT club_id FROM events WHERE event_id = ? FOR UPDATE",
+                    String.class, eventId);
+            if (owner.isEmpty()) {
+                throw new NoSuchElementException("Event not found");
+            }
+            if (clubId == null || !clubId.equals(owner.get(0))) {
+                return null;
+            }
+            formFieldRepository.deleteByEventId(eventId);
+            formFieldRepository.flush();
+            List<EventFormField> copies = new ArrayList<>();
+            for (int i = 0; i < fields.size(); i++) {
+                EventFormField copy = new EventFormField();
+                copy.setEventId(eventId);
+                copy.setFieldKey(fields.get(i).getFieldKey());
+                copy.setLabel(fields.get(i).getLabel());
+                copy.setType(fields.get(i).getType());
+                copy.setSortOrder(i);
+                copies.add(copy);
+            }
+            return formFieldRepository.saveAll(copies);
+        });
+        if (saved != null) {
+            reindexEvent(eventId);
+        }
+        return saved;
+    }
+
+    /**
+     * Event ke saare answers registrations.form_data se dobara (backfill). Har batch apni transaction mein,
+     * taaki bade event par lamba lock na rahe.
+     *
+     * @return kitne registrations index hue
+     */
+    public int reindexEvent(Long eventId) {
+        Map<Long, List<EventFormField>> fieldsByEvent = Map.of(eventId, getSchema(eventId));
+        // Hataye gaye fields ke answers bhi chale jaayein
+        jdbcTemplate.update("DELETE FROM registration_answers WHERE event_id = ?", eventId);
+
+        int indexed = 0;
+        long afterRegId = 0;
+        while (true) {
+            Map<Long, String> batch = new LinkedHashMap<>();
+            jdbcTemplate.query("SELECT reg_id, form_data FROM registrations WHERE event_id = ? AND reg_id > ? "
+                    + "AND form_data IS NOT NULL ORDER BY reg_id LIMIT ?",
+                    rs -> {
+                        batch.put(rs.getLong("reg_id"), rs.getString("form_data"));
+                    },
+                    eventId, afterRegId, backfillBatchSize);
+            if (batch.isEmpty()) {
+                return indexed;
+            }
+            Map<Long, Long> eventByReg = new HashMap<>();
+            batch.keySet().forEach(regId -> eventByReg.put(regId, eventId));
+            transactionTemplate.executeWithoutResult(status -> writeAnswers(batch, eventByReg, fieldsByEvent));
+
+            indexed += batch.size();
+            afterRegId = Collections.max(batch.keySet());
+        }
+    }
+
+    /**
+     * Flush hue form submissions ke answers (caller ki transaction mein). regId -> formData.
+     */
+    public void index(Map<Long, String> formDataByRegId) {
+        if (formDataByRegId.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> eventByReg = new HashMap<>();
+        jdbcTemplate.query("SELECT reg_id, event_id FROM registrations WHERE reg_id IN (" + placeholders(formDataByRegId.size()) + ")",
+                rs -> {
+                    eventByReg.put(rs.getLong("reg_id"), rs.getLong("event_id"));
+                },
+                formDataByRegId.keySet().toArray());
+        if (eventByReg.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<EventFormField>> fieldsByEvent = formFieldRepository.findByEventIdIn(new HashSet<>(eventByReg.values()))
+                .stream()
+                .collect(Collectors.groupingBy(EventFormField::getEventId));
+        writeAnswers(formDataByRegId, eventByReg, fieldsByEvent);
+    }
+
+    private void writeAnswers(Map<Long, String> formDataByRegId, Map<Long, Long> eventByReg,
+            Map<Long, List<EventFormField>> fieldsByEvent) {
+        List<Long> regIds = new ArrayList<>(eventByReg.keySet());
+        jdbcTemplate.update("DELETE FROM registration_answers WHERE reg_id IN (" + placeholders(regIds.size()) + ")",
+                regIds.toArray());
+
+        List<Answer> answers = new ArrayList<>();
+        for (Long regId : regIds) {
+            Long eventId = eventByReg.get(regId);
+            List<EventFormField> fields = fieldsByEvent.get(eventId);
+            if (fields == null || fields.isEmpty()) {
+                continue;
+            }
+            Map<String, String> flat = FormData.flatten(jsonMapper, formDataByRegId.get(regId));
+            if (flat == null) {
+                continue;
+            }
+            for (EventFormField field : fields) {
+                String value = flat.get(field.getFieldKey());
+                if (value == null || value.isBlank()) {
+                    continue;
+                }
+                BigDecimal number = NUMBER.equals(field.getType()) ? parseNumber(value) : null;
+                String text = value.length() > MAX_TEXT_LENGTH ? value.substring(0, MAX_TEXT_LENGTH) : value;
+                answers.add(new Answer(regId, eventId, field.getFieldKey(), text, number));
+            }
+        }
+        if (answers.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, answers, answers.size(), (ps, answer) -> {
+            ps.setLong(1, answer.regId());
+            ps.setLong(2, answer.eventId());
+            ps.setString(3, answer.fieldKey());
+            ps.setString(4, answer.text());
+            ps.setBigDecimal(5, answer.number());
+        });
+    }
+
+    /**
+     * Event ke applicants, answers par filter + sort ke saath (keyset pagination).
+     *
+     * @param filters "field:op:value", op = eq, gt, gte, lt, lte, contains
+     * @param sort    "field:asc" / "field:desc"; null = regId order (pehle aaye pehle)
+     * @throws IllegalArgumentException undeclared field, galat op/number, ya galat cursor
+     */
+    public ApplicantPage findApplicants(Long eventId, String status, List<String> filters, String sort, String cursor,
+            Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        ApplicantCursor after = cursor != null && !cursor.isBlank() ? ApplicantCursor.decode(cursor) : null;
+        Map<String, EventFormField> fields = getSchema(eventId).stream()
+                .collect(Collectors.toMap(EventFormField::getFieldKey, field -> field));
+
+        EventFormField sortField = null;
+        boolean descending = false;
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(":", 2);
+            sortField = declaredField(fields, parts[0]);
+            descending = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim());
+        }
+        String sortColumn = sortField == null ? null : "s." + valueColumn(sortField);
+
+        StringBuilder sql = new StringBuilder("SELECT r.reg_id, r.user_id, r.status, r.submission_date");
+        List<Object> args = new ArrayList<>();
+        if (sortField != null) {
+            sql.append(", ").append(sortColumn).append(" AS sort_value");
+        }
+        sql.append(" FROM registrations r");
+        if (sortField != null) {
+            sql.append(" LEFT JOIN registration_answers s ON s.reg_id = r.reg_id AND s.field_key = ?");
+            args.add(sortField.getFieldKey());
+        }
+
+        // Har filter ek join: (event_id, field_key, value) index se seedha matching registrations
+        List<String> conditions = filters == null ? List.of() : filters;
+        for (int i = 0; i < conditions.size(); i++) {
+            String[] parts = conditions.get(i).split(":", 3);
+            if (parts.length < 3) {
+                throw new IllegalArgumentException("Filter must look like field:op:value");
+            }
+            EventFormField field = declaredField(fields, parts[0]);
+            String alias = "f" + i;
+            sql.append(" JOIN registration_answers ").append(alias).append(" ON ").append(alias)
+                    .append(".reg_id = r.reg_id AND ").append(alias).append(".event_id = ? AND ")
+                    .append(alias).append(".field_key = ? AND ")
+                    .append(filterCondition(alias, field, parts[1].trim().toLowerCase(Locale.ROOT)));
+            args.add(eventId);
+            args.add(field.getFieldKey());
+            args.add(filterValue(field, parts[1].trim().toLowerCase(Locale.ROOT), parts[2]));
+        }
+
+        sql.append(" WHERE r.event_id = ?");
+        args.add(eventId);
+        if (status != null && !status.isBlank()) {
+            sql.append(" AND r.status = ?");
+            args.add(status.trim().toUpperCase(Locale.ROOT));
+        }
+
+        String comparator = descending ? "<" : ">";
+        String direction = descending ? " DESC" : " ASC";
+        if (after != null) {
+            if (sortField == null) {
+                sql.append(" AND r.reg_id > ?");
+                args.add(after.regId());
+            } else if (after.hasValue()) {
+                // Jinke paas answer nahi wo sabse last aate hain
+                sql.append(" AND (").append(sortColumn).append(' ').append(comparator).append(" ? OR (")
+                        .append(sortColumn).append(" = ? AND r.reg_id ").append(comparator).append(" ?) OR ")
+                        .append(sortColumn).append(" IS NULL)");
+                Object value = sortValue(sortField, after.value());
+                args.add(value);
+                args.add(value);
+                args.add(after.regId());
+            } else {
+                sql.append(" AND ").append(sortColumn).append(" IS NULL AND r.reg_id ").append(comparator).append(" ?");
+                args.add(after.regId());
+            }
+        }
+
+        if (sortField == null) {
+            sql.append(" ORDER BY r.reg_id ASC");
+        } else {
+            sql.append(" ORDER BY CASE WHEN ").append(sortColumn).append(" IS NULL THEN 1 ELSE 0 END, ")
+                    .append(sortColumn).append(direction).append(", r.reg_id").append(direction);
+        }
+        // Ek extra row se pata chalta hai ki agla page hai ya nahi
+        sql.append(" LIMIT ?");
+        args.add(pageSize + 1);
+
+        boolean sorted = sortField != null;
+        boolean numericSort = sorted && NUMBER.equals(sortField.getType());
+        List<ApplicantSummary> rows = new ArrayList<>();
+        List<String> sortValues = new ArrayList<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            Timestamp submitted = rs.getTimestamp("submission_date");
+            rows.add(new ApplicantSummary(rs.getLong("reg_id"), rs.getLong("user_id"), rs.getString("status"),
+                    submitted != null ? submitted.toLocalDateTime() : null, new LinkedHashMap<>()));
+            if (sorted) {
+                BigDecimal number = numericSort ? rs.getBigDecimal("sort_value") : null;
+                sortValues.add(numericSort ? (number != null ? number.toPlainString() : null) : rs.getString("sort_value"));
+            }
+        }, args.toArray());
+
+        String nextCursor = null;
+        List<ApplicantSummary> items = rows;
+        if (rows.size() > pageSize) {
+            items = rows.subList(0, pageSize);
+            ApplicantSummary last = items.get(pageSize - 1);
+            nextCursor = new ApplicantCursor(sorted ? sortValues.get(pageSize - 1) : null, last.getRegId()).encode();
+        }
+        attachAnswers(items);
+        return new ApplicantPage(items, nextCursor);
+    }
+
+    // Page ke registrations ke saare declared answers ek query mein
+    private void attachAnswers(List<ApplicantSummary> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Map<Long, ApplicantSummary> byRegId = new HashMap<>();
+        items.forEach(item -> byRegId.put(item.getRegId(), item));
+        jdbcTemplate.query("SELECT reg_id, field_key, text_value FROM registration_answers WHERE reg_id IN ("
+                + placeholders(items.size()) + ") ORDER BY answer_id",
+                rs -> {
+                    byRegId.get(rs.getLong("reg_id")).getAnswers().put(rs.getString("field_key"), rs.getString("text_value"));
+                },
+                byRegId.keySet().toArray());
+    }
+
+    private static EventFormField declaredField(Map<String, EventFormField> fields, String key) {
+        EventFormField field = fields.get(key.trim());
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown form field: " + key);
+        }
+        return field;
+    }
+
+    private static String valueColumn(EventFormField field) {
+        return NUMBER.equals(field.getType()) ? "number_value" : "text_value";
+    }
+
+    private static String filterCondition(String alias, EventFormField field, String op) {
+        String column = alias + "." + valueColumn(field);
+        return switch (op) {
+            case "eq" -> column + " = ?";
+            case "gt" -> column + " > ?";
+            case "gte" -> column + " >= ?";
+            case "lt" -> column + " < ?";
+            case "lte" -> column + " <= ?";
+            case "contains" -> {
+                if (NUMBER.equals(field.getType())) {
+                    throw new IllegalArgumentException("contains is only supported for TEXT fields");
+                }
+                // Case-insensitive har DB par (MySQL collation ke bharose nahi); %..% waise bhi index use nahi karta
+                yield "LOWER(" + alias + ".text_value) LIKE ?";
+            }
+            default -> throw new IllegalArgumentException("Unknown filter op: " + op);
+        };
+    }
+
+    private static Object filterValue(EventFormField field, String op, String value) {
+        if ("contains".equals(op)) {
+            String escaped = value.toLowerCase(Locale.ROOT)
+                    .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            return "%" + escaped + "%";
+        }
+        return sortValue(field, value);
+    }
+
+    private static Object sortValue(EventFormField field, String value) {
+        if (!NUMBER.equals(field.getType())) {
+            return value;
+        }
+        BigDecimal number = parseNumber(value);
+        if (number == null) {
+            throw new IllegalArgumentException("Not a number: " + value);
+        }
+        return number;
+    }
+
+    private static BigDecimal parseNumber(String value) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.infonest.service;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registration formData (JSON object) ko flat key -> value mein todta hai: {"a":{"b":1},"c":[1,2]} -> a.b=1, c=[1,2].
+ * Export ke columns aur registration_answers ke field keys dono isi naming se bante hain.
+ */
+public final class FormData {
+
+    private FormData() {
+    }
+
+    /**
+     * @return flat answers, ya null agar formData JSON object nahi hai (khaali / purana free text)
+     */
+    public static Map<String, String> flatten(JsonMapper jsonMapper, String formData) {
+        if (formData == null || formData.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode root = jsonMapper.readTree(formData);
+            if (!root.isObject()) {
+                return null;
+            }
+            Map<String, String> flat = new LinkedHashMap<>();
+            flatten("", root, flat);
+            return flat;
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+
+    private static void flatten(String prefix, JsonNode node, Map<String, String> flat) {
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            String key = prefix.isEmpty() ? field.getKey() : prefix + "." + field.getKey();
+            JsonNode value = field.getValue();
+            if (value.isObject()) {
+                flatten(key, value, flat);
+            } else if (value.isNull()) {
+                flat.put(key, null);
+            } else if (value.isValueNode()) {
+                flat.put(key, value.asString());
+            } else {
+                flat.put(key, value.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.infonest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Registration form submissions ka write-behind pipeline. Request thread sirf bounded queue mein daalta hai
+ * aur turant submission id lautata hai; ek background thread batch uthata hai, same regId ki
+ * submissions mein sirf aakhri rakhta hai, aur JDBC batch UPDATE se sirf form_data + submission_date likhta hai
+ * (declared form fields ke answers bhi usi transaction mein, FormAnswerService se).
+ *
+ * Queue bhari ho to offer() null deta hai (caller 429 bheje). Shutdown par naye submissions band,
+ * aur queue mein jo bacha hai wo DataSource band hone se pehle flush hota hai.
+ *
+ * Batch write fail ho (pool timeout, deadlock, lock wait) to wahi batch bounded exponential backoff ke saath
+ * dobara; retries khatam hone par har submission alag se ek baar, taaki ek kharab row poora batch na le doobe.
+ * Har submissionId ki state (QUEUED / WRITTEN / SUPERSEDED / NOT_FOUND / FAILED) ek bounded store mein rehti hai -
+ * client status(submissionId) se dekh kar FAILED par dobara bhej sakta hai.
+ */
+@Component
+public class FormSubmissionQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(FormSubmissionQueue.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE registrations SET form_data = ?, submission_date = ? WHERE reg_id = ?";
+
+    public record Submission(String submissionId, Long regId, String formData, LocalDateTime submittedAt) {
+    }
+
+    public enum State {
+        QUEUED,
+        WRITTEN,
+        SUPERSEDED, // same registration ki baad wali submission likhi gayi
+        NOT_FOUND,  // registration beech mein delete ho gaya
+        FAILED      // retries ke baad bhi nahi likhi - client dobara bheje
+    }
+
+    public record SubmissionStatus(String submissionId, Long regId, State state, String error) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private FormAnswerService formAnswerService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${infonest.forms.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${infonest.forms.batch-size:200}")
+    private int batchSize;
+
+    @Value("${infonest.forms.poll-ms:50}")
+    private long pollMs;
+
+    @Value("${infonest.forms.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    @Value("${infonest.forms.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${infonest.forms.retry-backoff-ms:100}")
+    private long retryBackoffMs;
+
+    @Value("${infonest.forms.max-backoff-ms:2000}")
+    private long maxBackoffMs;
+
+    @Value("${infonest.forms.status.max-entries:100000}")
+    private long maxStatusEntries;
+
+    @Value("${infonest.forms.status.ttl:1h}")
+    private Duration statusTtl;
+
+    private BlockingQueue<Submission> queue;
+    private Cache<String, SubmissionStatus> statuses;
+    private Thread flusher;
+    private volatile boolean running;
+
+    // Drain + write ek saath, taaki purana batch naye batch ke baad na likha jaaye.
+    // ReentrantLock (synchronized nahi) - andar JDBC hai aur virtual threads pin nahi hone chahiye
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private Counter accepted;
+    private Counter rejected;
+    private Counter written;
+    private Counter failed;
+    private Counter retries;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        statuses = Caffeine.newBuilder()
+                .maximumSize(maxStatusEntries)
+                .expireAfterWrite(statusTtl)
+                .build();
+
+        Gauge.builder("infonest.forms.queue.depth", queue, BlockingQueue::size)
+                .description("Form submissions waiting to be flushed")
+                .register(meterRegistry);
+        accepted = meterRegistry.counter("infonest.forms.submissions", "result", "accepted");
+        rejected = meterRegistry.counter("infonest.forms.submissions", "result", "rejected");
+        written = meterRegistry.counter("infonest.forms.flushed", "result", "written");
+        failed = meterRegistry.counter("infonest.forms.flushed", "result", "failed");
+        retries = meterRegistry.counter("infonest.forms.flush.retries");
+        flushTimer = Timer.builder("infonest.forms.flush")
+                .description("Latency of one batched form_data flush")
+                .register(meterRegistry);
+
+        running = true;
+        flusher = new Thread(this::runFlusher, "form-submission-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * @return submission id, ya null agar queue bhari hai / app band ho rahi hai
+     */
+    public String offer(Long regId, String formData) {
+        Submission submission = new Submission(UUID.randomUUID().toString(), regId, formData, LocalDateTime.now());
+        if (!running || !queue.offer(submission)) {
+            rejected.increment();
+            return null;
+        }
+        accepted.increment();
+        record(submission, State.QUEUED, null);
+        return submission.submissionId();
+    }
+
+    /**
+     * @return submission ki abhi ki state, ya null agar id anjaan hai / status-ttl se purani ho gayi
+     */
+    public SubmissionStatus status(String submissionId) {
+        return statuses.getIfPresent(submissionId);
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    /**
+     * Queue mein abhi jo hai sab likh deta hai (shutdown aur tests ke liye)
+     */
+    public void flushAll() {
+        while (flushBatch(0) > 0) {
+            // jab tak queue khaali na ho
+        }
+    }
+
+    private void runFlusher() {
+        while (running) {
+            try {
+                flushBatch(pollMs);
+            } catch (RuntimeException e) {
+                log.error("Form submission flush failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    // @return kitni submissions queue se nikli
+    private int flushBatch(long waitMs) {
+        flushLock.lock();
+        try {
+            List<Submission> batch = new ArrayList<>(batchSize);
+            try {
+                Submission first = waitMs > 0 ? queue.poll(waitMs, TimeUnit.MILLISECONDS) : queue.poll();
+                if (first == null) {
+                    return 0;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+            queue.drainTo(batch, batchSize - 1);
+
+            // Same registration ki multiple submissions -> sirf aakhri wali
+            Map<Long, Submission> latest = new LinkedHashMap<>();
+            for (Submission submission : batch) {
+                Submission older = latest.put(submission.regId(), submission);
+                if (older != null) {
+                    record(older, State.SUPERSEDED, null);
+                }
+            }
+            write(new ArrayList<>(latest.values()));
+            return batch.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<Submission> submissions) {
+        Exception lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                markWritten(submissions, writeOnce(submissions));
+                return;
+            } catch (Exception e) {
+                lastError = e;
+                if (attempt < maxAttempts) {
+                    retries.increment();
+                    log.warn("Form submission flush of {} failed (attempt {}/{}), retrying: {}", submissions.size(),
+                            attempt, maxAttempts, e.getMessage());
+                    if (!sleep(backoffMs(attempt))) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (submissions.size() == 1) {
+            markFailed(submissions.get(0), lastError);
+            return;
+        }
+        // Batch nahi likha gaya - shayad ek hi row kharab hai; baaki ko alag-alag bachao
+        for (Submission submission : submissions) {
+            try {
+                markWritten(List.of(submission), writeOnce(List.of(submission)));
+            } catch (Exception e) {
+                markFailed(submission, e);
+            }
+        }
+    }
+
+    private int[][] writeOnce(List<Submission> submissions) throws Exception {
+        // form_data aur uske indexed answers (registration_answers) ek hi transaction mein
+        return flushTimer.recordCallable(() -> transactionTemplate.execute(status -> {
+            int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, submissions, submissions.size(),
+                    (ps, submission) -> {
+                        ps.setString(1, submission.formData());
+                        ps.setTimestamp(2, Timestamp.valueOf(submission.submittedAt()));
+                        ps.setLong(3, submission.regId());
+                    });
+            Map<Long, String> formData = new LinkedHashMap<>();
+            submissions.forEach(submission -> formData.put(submission.regId(), submission.formData()));
+            formAnswerService.index(formData);
+            return updated;
+        }));
+    }
+
+    private void markWritten(List<Submission> submissions, int[][] counts) {
+        written.increment(submissions.size());
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                Submission submission = submissions.get(index++);
+                if (count == 0) {
+                    record(submission, State.NOT_FOUND, "Registration not found");
+                    log.warn("Form submission {} ignored: registration {} not found",
+                            submission.submissionId(), submission.regId());
+                } else {
+                    record(submission, State.WRITTEN, null);
+                }
+            }
+        }
+        try {
+            publishSubmitted(submissions);
+        } catch (RuntimeException e) {
+            // Data likha ja chuka hai - live update na jaaye to bhi write fail nahi
+            log.warn("Could not publish form submission updates: {}", e.getMessage());
+        }
+    }
+
+    private void markFailed(Submission submission, Exception e) {
+        failed.increment();
+        String error = e == null ? "interrupted" : e.getMessage();
+        record(submission, State.FAILED, error);
+        log.error("Could not write form submission {} for registration {}: {}", submission.submissionId(),
+                submission.regId(), error);
+    }
+
+    private void record(Submission submission, State state, String error) {
+        statuses.put(submission.submissionId(),
+                new SubmissionStatus(submission.submissionId(), submission.regId(), state, error));
+    }
+
+    private long backoffMs(int attempt) {
+        return Math.min(maxBackoffMs, retryBackoffMs << Math.min(attempt - 1, 20));
+    }
+
+    // @return false agar thread interrupt hua (shutdown) - tab aur retry nahi
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Live updates: ek IN query se (eventId, userId) - sirf jab koi stream khula ho
+    private void publishSubmitted(List<Submission> submissions) {
+        if (liveUpdateBus.subscriberCount() == 0) {
+            return;
+        }
+        Map<Long, String> formData = new LinkedHashMap<>();
+        submissions.forEach(submission -> formData.put(submission.regId(), submission.formData()));
+        String placeholders = String.join(",", Collections.nCopies(formData.size(), "?"));
+        jdbcTemplate.query("SELECT reg_id, event_id, user_id, status FROM registrations WHERE reg_id IN (" + placeholders + ")",
+                rs -> {
+                    long regId = rs.getLong("reg_id");
+                    eventPublisher.publishEvent(new RegistrationChangedEvent(RegistrationChangedEvent.Type.FORM_SUBMITTED,
+                            regId, rs.getLong("event_id"), rs.getLong("user_id"), null, rs.getString("status"),
+                            formData.get(regId)));
+                },
+                formData.keySet().toArray());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.join(shutdownTimeoutMs);
+        flushAll();
+        if (!queue.isEmpty()) {
+            log.warn("{} form submission(s) dropped on shutdown", queue.size());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.infonest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.infonest.model.Registration;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Idempotency-Key -> pehle bana registration. Keys user ke scope mein hain (ek user ki key doosre par asar nahi karti).
+ * In-memory aur bounded hai; restart ke baad bhi (user, event) unique constraint duplicates rokta hai.
+ */
+@Component
+public class IdempotencyKeyStore {
+
+    public record Entry(Long userId, Long eventId, Long regId) {
+
+        public boolean sameRequestAs(Registration registration) {
+            return Objects.equals(userId, registration.getUserId()) && Objects.equals(eventId, registration.getEventId());
+        }
+    }
+
+    @Value("${infonest.idempotency.max-keys:100000}")
+    private long maxKeys;
+
+    @Value("${infonest.idempotency.ttl:24h}")
+    private Duration ttl;
+
+    private Cache<String, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Entry find(String scope, String key) {
+        return entries.getIfPresent(scope + ":" + key);
+    }
+
+    public void remember(String scope, String key, Registration registration) {
+        entries.put(scope + ":" + key,
+                new Entry(registration.getUserId(), registration.getEventId(), registration.getRegId()));
+    }
+}
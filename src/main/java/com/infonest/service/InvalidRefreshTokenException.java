@@ -0,0 +1,11 @@
+package com.infonest.service;
+
+/**
+ * Refresh token unknown, expired, revoked ya dobara use hua. Controller isse 401 banata hai.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,67 @@
+package com.infonest.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * SseEmitter ko LiveUpdateBus subscription se jodta hai. Emitter async hai - connection idle ho to koi
+ * request thread nahi pakadta. Timeout ke baad browser EventSource khud reconnect karta hai (naye token ke saath).
+ */
+@Component
+public class LiveStreams {
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    @Value("${infonest.live.timeout:30m}")
+    private Duration timeout;
+
+    /**
+     * @return emitter, ya null agar subscribers ki limit poori hai
+     */
+    public SseEmitter open(String topic) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        LiveUpdateBus.Subscription subscription = liveUpdateBus.subscribe(topic, new EmitterSink(emitter));
+        if (subscription == null) {
+            return null;
+        }
+        emitter.onCompletion(() -> liveUpdateBus.unsubscribe(subscription));
+        emitter.onTimeout(() -> {
+            liveUpdateBus.unsubscribe(subscription);
+            emitter.complete();
+        });
+        emitter.onError(e -> liveUpdateBus.unsubscribe(subscription));
+
+        try {
+            // Pehla event: client ko pata chale stream chalu hai (yahin se wo full list ek baar reload karta hai)
+            emitter.send(SseEmitter.event().name("ready").data(topic));
+        } catch (IOException e) {
+            liveUpdateBus.unsubscribe(subscription);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements LiveUpdateBus.Sink {
+
+        @Override
+        public void send(String eventName, Object data) throws IOException {
+            if (eventName == null) {
+                emitter.send(SseEmitter.event().comment(String.valueOf(data)));
+            } else {
+                emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+            }
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.infonest.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process pub/sub for live (SSE) updates. Topic jaise "club:CODING_CLUB" ya "user:42".
+ *
+ * Har subscriber ka apna chhota bounded buffer hai. Publish sirf buffer mein daalta hai (kabhi block nahi karta);
+ * ek bounded dispatcher pool buffers ko sink (SseEmitter) tak pahunchata hai (ek subscriber ka ek waqt mein ek drain).
+ * Buffer bhar gaya, ya ek send send-timeout se zyada atka, matlab client peeche reh gaya - use drop kar dete hain
+ * (browser EventSource khud reconnect karke list reload karta hai). Atka hua socket tab tak sirf apna ek dispatcher
+ * thread pakadta hai, isliye pool stalled clients se bada rakha hai. Drop kabhi block nahi karta: sink close (emitter
+ * complete) chalu send ka lock maangta hai, isliye close dispatcher par hota hai - aur send chal raha ho to wahi
+ * drain thread send khatam hote hi close karta hai. Idle connection par koi thread nahi baithta.
+ */
+@Component
+public class LiveUpdateBus {
+
+    /**
+     * Subscriber tak message pahunchane ka tareeka. eventName null = heartbeat comment.
+     */
+    public interface Sink {
+        void send(String eventName, Object data) throws IOException;
+
+        void close();
+    }
+
+    public final class Subscription {
+        private final String topic;
+        private final Sink sink;
+        private final BlockingQueue<Message> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean sinkClosed = new AtomicBoolean();
+        // Chalu send kab shuru hua (System.nanoTime), 0 = koi send nahi chal raha
+        private volatile long sendingSince;
+        private volatile boolean closed;
+
+        private Subscription(String topic, Sink sink) {
+            this.topic = topic;
+            this.sink = sink;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+    }
+
+    private record Message(String eventName, Object data) {
+    }
+
+    private static final Message HEARTBEAT = new Message(null, "hb");
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${infonest.live.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${infonest.live.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${infonest.live.dispatch-threads:16}")
+    private int dispatchThreads;
+
+    @Value("${infonest.live.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    private final ConcurrentMap<String, Set<Subscription>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ExecutorService dispatcher;
+    private Counter published;
+    private Counter dropped;
+    private Counter stalled;
+
+    public LiveUpdateBus() {
+    }
+
+    // Tests ke liye: Spring context ke bina
+    LiveUpdateBus(int bufferSize, int maxSubscribers, int dispatchThreads, long sendTimeoutMs, MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.dispatchThreads = dispatchThreads;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.meterRegistry = meterRegistry;
+        init();
+    }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        // Queue unbounded dikhti hai par ek subscriber ka ek hi task pending rehta hai (scheduled flag) - max subscribers tak
+        dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, "live-dispatch-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("infonest.live.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open live-update (SSE) subscriptions")
+                .register(meterRegistry);
+        published = meterRegistry.counter("infonest.live.messages", "result", "queued");
+        dropped = meterRegistry.counter("infonest.live.messages", "result", "dropped-subscriber");
+        stalled = meterRegistry.counter("infonest.live.messages", "result", "stalled-subscriber");
+    }
+
+    /**
+     * @return subscription, ya null agar subscribers ki limit poori hai
+     */
+    public Subscription subscribe(String topic, Sink sink) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        Subscription subscription = new Subscription(topic, sink);
+        // add compute ke andar - concurrent unsubscribe khaali set hata raha ho to bhi subscription orphan set mein nahi jaata
+        topics.compute(topic, (t, subscribers) -> {
+            Set<Subscription> current = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            current.add(subscription);
+            return current;
+        });
+        return subscription;
+    }
+
+    // Client chala gaya (emitter complete/timeout/error)
+    public void unsubscribe(Subscription subscription) {
+        if (subscription.closed) {
+            return;
+        }
+        subscription.closed = true;
+        AtomicBoolean removed = new AtomicBoolean();
+        // Khaali set bhi compute ke andar hatta hai, subscribe ke add ke saath serialized
+        topics.computeIfPresent(subscription.topic, (t, subscribers) -> {
+            removed.set(subscribers.remove(subscription));
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        if (removed.get()) {
+            subscriberCount.decrementAndGet();
+        }
+        subscription.buffer.clear();
+    }
+
+    public boolean hasSubscribers(String topic) {
+        Set<Subscription> subscribers = topics.get(topic);
+        return subscribers != null && !subscribers.isEmpty();
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public void publish(String topic, String eventName, Object data) {
+        Set<Subscription> subscribers = topics.get(topic);
+        if (subscribers == null) {
+            return;
+        }
+        Message message = new Message(eventName, data);
+        for (Subscription subscription : subscribers) {
+            offer(subscription, message);
+        }
+    }
+
+    // Proxies idle connection band na karein, aur mare hue clients (send fail) pakde jaayein
+    @Scheduled(fixedDelayString = "${infonest.live.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Set<Subscription> subscribers : topics.values()) {
+            for (Subscription subscription : subscribers) {
+                offer(subscription, HEARTBEAT);
+            }
+        }
+    }
+
+    // Jo send send-timeout se zyada atka hai (socket stall) wo subscriber drop - naye messages uske liye thread
+    // nahi lete, aur atka send lautte hi connection band. Scheduler thread close par kabhi nahi rukta
+    @Scheduled(fixedDelayString = "${infonest.live.stall-check-ms:1000}")
+    public void dropStalled() {
+        long now = System.nanoTime();
+        long limit = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (Set<Subscription> subscribers : topics.values()) {
+            for (Subscription subscription : subscribers) {
+                long since = subscription.sendingSince;
+                if (since != 0 && now - since > limit) {
+                    stalled.increment();
+                    close(subscription);
+                }
+            }
+        }
+    }
+
+    private void offer(Subscription subscription, Message message) {
+        if (subscription.closed) {
+            return;
+        }
+        if (!subscription.buffer.offer(message)) {
+            // Slow consumer - peeche reh gaya, band karo
+            drop(subscription);
+            return;
+        }
+        published.increment();
+        schedule(subscription);
+    }
+
+    private void schedule(Subscription subscription) {
+        if (subscription.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        while (true) {
+            Message message = subscription.buffer.poll();
+            if (message == null) {
+                subscription.scheduled.set(false);
+                // Flag chhodte waqt beech mein aaya message na chhoot jaaye
+                if (subscription.buffer.isEmpty() || !subscription.scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            // Pehle sendingSince, phir closed check - close() ulte order mein dekhta hai, isliye sink close
+            // hamesha koi na koi karta hai (sinkClosed se sirf ek baar) aur kabhi chalu send ke saath nahi
+            subscription.sendingSince = Math.max(System.nanoTime(), 1);
+            if (subscription.closed) {
+                subscription.sendingSince = 0;
+                closeSink(subscription);
+                return;
+            }
+            try {
+                subscription.sink.send(message.eventName(), message.data());
+            } catch (IOException | RuntimeException e) {
+                unsubscribe(subscription);
+                return;
+            } finally {
+                subscription.sendingSince = 0;
+            }
+            if (subscription.closed) {
+                // Send ke dauraan drop hua (stall / buffer full) - ab lock free hai
+                closeSink(subscription);
+                return;
+            }
+        }
+    }
+
+    private void drop(Subscription subscription) {
+        dropped.increment();
+        close(subscription);
+    }
+
+    // Kabhi block nahi karta. Send chal raha ho to drain thread send ke baad close karta hai,
+    // warna close dispatcher par (emitter complete publisher / scheduler thread par nahi)
+    private void close(Subscription subscription) {
+        unsubscribe(subscription);
+        if (subscription.sendingSince == 0) {
+            dispatcher.execute(() -> closeSink(subscription));
+        }
+    }
+
+    private void closeSink(Subscription subscription) {
+        if (subscription.sinkClosed.compareAndSet(false, true)) {
+            subscription.sink.close();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Set<Subscription> subscribers : topics.values()) {
+            for (Subscription subscription : subscribers) {
+                close(subscription);
+            }
+        }
+        dispatcher.shutdown();
+    }
+}
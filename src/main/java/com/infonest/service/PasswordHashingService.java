@@ -0,0 +1,125 @@
+package com.infonest.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt (CPU-heavy) request threads par nahi, apne chhote bounded pool par chalta hai.
+ * Login/signup storm mein bhi sirf yahi threads busy hote hain, baaki cores catalog endpoints ke liye bachte hain.
+ * Pool aur queue dono bhare hon to turant TooManyRequestsException (429) - request lambi wait nahi karti.
+ */
+@Service
+public class PasswordHashingService {
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 = aadhe cores
+    @Value("${infonest.auth.hash-threads:0}")
+    private int threads;
+
+    @Value("${infonest.auth.hash-queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${infonest.auth.hash-timeout-ms:5000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor pool;
+    private ExecutorService executor;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        pool = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "bcrypt-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // executor.* metrics (name=bcrypt): active, queued, pool size, completed, execution time
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "bcrypt");
+        rejected = meterRegistry.counter("infonest.auth.hash.rejected");
+    }
+
+    public String encode(String rawPassword) {
+        return call(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return call(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // Hash configured cost se kam par bana hai? (sirf hash string padhta hai, BCrypt nahi chalata)
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // Best-effort encode: pool bhara ho to null (rehash agli login par ho jaayega)
+    public String tryEncode(String rawPassword) {
+        try {
+            return encode(rawPassword);
+        } catch (TooManyRequestsException e) {
+            return null;
+        }
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static TooManyRequestsException busy() {
+        return new TooManyRequestsException("Server is busy, please try again in a moment.", 1);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+}
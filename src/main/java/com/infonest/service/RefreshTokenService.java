@@ -0,0 +1,174 @@
+package com.infonest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.infonest.model.RefreshToken;
+import com.infonest.repository.RefreshTokenRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Rotating refresh tokens. Client ko random opaque token milta hai, DB mein sirf uska SHA-256 hash -
+ * refresh ek indexed lookup hai, BCrypt nahi. Har refresh par purana token "used" hota hai aur naya milta hai;
+ * used/revoked token dobara aaye (chori hua token) to poori family revoke ho jaati hai.
+ * Exception: do tabs ne ek saath wahi token bheja to doosre ko reuse-grace ke andar wahi successor mil jaata hai
+ * (jab tak successor khud rotate nahi hua). Successor ka raw token sirf memory mein, sirf grace tak - DB mein
+ * ab bhi sirf hash; dusre instance par aaya retry grace nahi paata (sticky LB), client tab localStorage dekhta hai.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    public record Rotation(Long userId, String refreshToken) {
+    }
+
+    private record Issued(Long tokenId, String rawToken) {
+    }
+
+    private record Successor(Long tokenId, Rotation rotation) {
+    }
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${infonest.auth.refresh-ttl:14d}")
+    private Duration refreshTtl;
+
+    @Value("${infonest.auth.refresh-reuse-grace:10s}")
+    private Duration reuseGrace;
+
+    @Value("${infonest.auth.refresh-reuse-max-entries:100000}")
+    private long reuseMaxEntries;
+
+    private final SecureRandom random = new SecureRandom();
+
+    // Abhi rotate hue token ka hash -> uska successor, grace window tak
+    private Cache<String, Successor> recentRotations;
+
+    @PostConstruct
+    void init() {
+        recentRotations = Caffeine.newBuilder()
+                .maximumSize(reuseMaxEntries)
+                .expireAfterWrite(reuseGrace)
+                .build();
+    }
+
+    /**
+     * Login par nayi family ka pehla token
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return create(userId, UUID.randomUUID().toString()).rawToken();
+    }
+
+    /**
+     * Token ko naye token se badalta hai. Reuse par family revoke commit honi chahiye, isliye exception par rollback nahi.
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+        String tokenHash = hash(rawToken);
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(tokenHash)
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token. Please login again."));
+
+        if (current.getUsedAt() != null) {
+            Rotation replay = replayWithinGrace(tokenHash, current);
+            if (replay != null) {
+                return replay;
+            }
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            log.warn("Refresh token reuse detected for user {}, family {} revoked", current.getUserId(), current.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token was already used. Please login again.");
+        }
+        if (current.isRevoked() || current.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException("Session expired. Please login again.");
+        }
+
+        current.setUsedAt(LocalDateTime.now());
+        Issued next = create(current.getUserId(), current.getFamilyId());
+        Rotation rotation = new Rotation(current.getUserId(), next.rawToken());
+        // Row lock ke andar put - parallel request commit ke baad hi yahan tak pahunchti hai aur entry dekh leti hai
+        recentRotations.put(tokenHash, new Successor(next.tokenId(), rotation));
+        return rotation;
+    }
+
+    /**
+     * Turant pichla token grace ke andar dobara aaya (parallel tabs) to wahi successor. Successor khud rotate /
+     * revoke ho chuka ho, ya grace nikal gayi ho, to null - yani asli reuse.
+     */
+    private Rotation replayWithinGrace(String tokenHash, RefreshToken current) {
+        Successor successor = recentRotations.getIfPresent(tokenHash);
+        // Caffeine expiry best-effort hai, isliye usedAt se grace dobara check karte hain
+        if (successor == null || current.isRevoked()
+                || current.getUsedAt().plus(reuseGrace).isBefore(LocalDateTime.now())) {
+            return null;
+        }
+        RefreshToken next = refreshTokenRepository.findById(successor.tokenId()).orElse(null);
+        if (next == null || next.getUsedAt() != null || next.isRevoked()) {
+            return null;
+        }
+        log.debug("Refresh token replayed within grace for user {}, family {}", current.getUserId(), current.getFamilyId());
+        return successor.rotation();
+    }
+
+    /**
+     * Logout: is token ki poori family band (unknown token par kuch nahi)
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    @Scheduled(cron = "${infonest.auth.refresh-purge-cron:0 0 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private Issued create(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setFamilyId(familyId);
+        token.setUserId(userId);
+        token.setCreatedAt(now);
+        token.setExpiresAt(now.plus(refreshTtl));
+        return new Issued(refreshTokenRepository.save(token).getId(), rawToken);
+    }
+
+    private static String hash(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new InvalidRefreshTokenException("Refresh token is required.");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.infonest.service;
+
+/**
+ * Registration mein kuch badla - live updates (SSE) isi se bante hain.
+ *
+ * @param clubId   pata ho to (warna listener event se nikalta hai)
+ * @param formData sirf FORM_SUBMITTED ke liye
+ */
+public record RegistrationChangedEvent(Type type, Long regId, Long eventId, Long userId, String clubId,
+        String status, String formData) {
+
+    public enum Type {
+        CREATED, STATUS_CHANGED, FORM_SUBMITTED
+    }
+}
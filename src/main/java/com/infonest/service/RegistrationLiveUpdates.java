@@ -0,0 +1,97 @@
+package com.infonest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.infonest.dto.RegistrationDelta;
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * RegistrationChangedEvent -> SSE deltas: student ke "user:{id}" topic aur club faculty ke "club:{clubId}" topic par.
+ * Commit ke baad hi publish hota hai, taaki client kabhi rollback hua change na dekhe.
+ */
+@Component
+public class RegistrationLiveUpdates {
+
+    public static final String EVENT_NAME = "registration";
+
+    public static final String BULK_STATUS_CHANGED = "BULK_STATUS_CHANGED";
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    // eventId -> clubId (event ka club kam hi badalta hai; catalog change par saaf)
+    private final Cache<Long, String> clubOfEvent = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public static String clubTopic(String clubId) {
+        return "club:" + clubId;
+    }
+
+    public static String userTopic(Long userId) {
+        return "user:" + userId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationChanged(RegistrationChangedEvent event) {
+        if (liveUpdateBus.subscriberCount() == 0) {
+            return;
+        }
+        RegistrationDelta delta = new RegistrationDelta(event.type().name(), event.regId(), event.eventId(),
+                event.userId(), event.status(), event.formData(), LocalDateTime.now(), null);
+
+        if (event.userId() != null) {
+            liveUpdateBus.publish(userTopic(event.userId()), EVENT_NAME, delta);
+        }
+        String clubId = event.clubId() != null ? event.clubId() : clubOf(event.eventId());
+        if (clubId != null) {
+            liveUpdateBus.publish(clubTopic(clubId), EVENT_NAME, delta);
+        }
+    }
+
+    // Club ko ek hi delta (saare regIds); students ko apna-apna, sirf jinka stream khula hai
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationsBulkChanged(RegistrationsBulkChangedEvent event) {
+        if (liveUpdateBus.subscriberCount() == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> regIds = event.changes().stream().map(RegistrationsBulkChangedEvent.Change::regId).toList();
+        liveUpdateBus.publish(clubTopic(event.clubId()), EVENT_NAME,
+                new RegistrationDelta(BULK_STATUS_CHANGED, null, null, null, event.status(), null, now, regIds));
+
+        for (RegistrationsBulkChangedEvent.Change change : event.changes()) {
+            String topic = userTopic(change.userId());
+            if (liveUpdateBus.hasSubscribers(topic)) {
+                liveUpdateBus.publish(topic, EVENT_NAME, new RegistrationDelta(RegistrationChangedEvent.Type.STATUS_CHANGED.name(),
+                        change.regId(), change.eventId(), change.userId(), event.status(), null, now, null));
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.eventsChanged()) {
+            clubOfEvent.invalidateAll();
+        }
+    }
+
+    private String clubOf(Long eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        return clubOfEvent.get(eventId, id -> eventRepository.findById(id).map(Event::getClubId).orElse(null));
+    }
+}
@@ -0,0 +1,9 @@
+package com.infonest.service;
+
+import com.infonest.model.Registration;
+
+/**
+ * @param created false matlab (user, event) ka registration pehle se tha aur wahi return hua
+ */
+public record RegistrationOutcome(Registration registration, boolean created) {
+}
@@ -0,0 +1,393 @@
+package com.infonest.service;
+
+import com.infonest.dto.BulkStatusOutcome;
+import com.infonest.dto.BulkStatusRequest;
+import com.infonest.dto.BulkStatusResult;
+import com.infonest.model.Registration;
+import com.infonest.repository.RegistrationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+public class RegistrationService {
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventStatsService eventStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SeatAllocator seatAllocator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${infonest.registrations.bulk.max-size:1000}")
+    private int maxBulkSize;
+
+    private static final Set<String> BULK_STATUSES = Set.of(EventStatsService.APPLIED, EventStatsService.APPROVED,
+            EventStatsService.REJECTED, EventStatsService.WAITLISTED);
+
+    private static final String TARGET_SELECT = "SELECT r.reg_id, r.event_id, r.user_id, r.status, e.club_id "
+            + "FROM registrations r JOIN events e ON e.event_id = r.event_id";
+
+    private record Target(long regId, long eventId, long userId, String status, String clubId) {
+    }
+
+    /**
+     * Insert-or-conflict: pehle check nahi karte, seedha insert karte hain. (user_id, event_id) unique
+     * constraint duplicate ko reject karta hai aur tab pehle wala registration return hota hai.
+     * Concurrent double-clicks mein bhi sirf ek row banti hai, aur normal case mein ek hi round trip lagta hai.
+     * Capacity wale event mein seat na bache to registration WAITLISTED banta hai.
+     */
+    public RegistrationOutcome register(Registration registration) {
+        Long eventId = registration.getEventId();
+        SeatAllocator.Admission admission = seatAllocator.acquire(eventId);
+        try {
+            // Insert + event_stats counter ek transaction mein; conflict par dono rollback
+            Registration saved = transactionTemplate.execute(status -> insert(registration, admission));
+            publishChange(RegistrationChangedEvent.Type.CREATED, saved);
+            return new RegistrationOutcome(saved, true);
+        } catch (DataIntegrityViolationException e) {
+            seatAllocator.release(admission);
+            Registration existing = registrationRepository
+                    .findByUserIdAndEventId(registration.getUserId(), registration.getEventId())
+                    .orElseThrow(() -> e);
+            return new RegistrationOutcome(existing, false);
+        }
+    }
+
+    private Registration insert(Registration registration, SeatAllocator.Admission admission) {
+        Long eventId = registration.getEventId();
+        registration.setSubmissionDate(LocalDateTime.now()); // Set current time
+        registration.setFormData(null); // Shuruat mein null
+
+        if (admission.kind() == SeatAllocator.Kind.UNLIMITED) {
+            registration.setStatus(EventStatsService.APPLIED); // Default status
+            Registration saved = registrationRepository.save(registration);
+            eventStatsService.recordRegistration(eventId, saved.getStatus());
+            return saved;
+        }
+
+        // Counter ne seat di to DB se confirm (conditional UPDATE); mana hua to counter stale tha
+        if (admission.kind() == SeatAllocator.Kind.SEAT) {
+            Integer capacity = seatAllocator.capacityOf(eventId);
+            if (capacity == null || eventStatsService.claimSeat(eventId, capacity)) {
+                registration.setStatus(EventStatsService.APPLIED);
+                if (capacity == null) {
+                    // Beech mein capacity hata di gayi
+                    eventStatsService.recordRegistration(eventId, EventStatsService.APPLIED);
+                }
+                return registrationRepository.save(registration);
+            }
+            seatAllocator.markFull(admission);
+        }
+
+        registration.setStatus(EventStatsService.WAITLISTED);
+        Registration saved = registrationRepository.save(registration);
+        eventStatsService.recordRegistration(eventId, saved.getStatus());
+        return saved;
+    }
+
+    /**
+     * Status change: row lock ke saath purana status padh kar counters ka delta apply hota hai.
+     * Seat khaali hui (jaise APPLIED -> REJECTED) to waitlist ka sabse purana registration usi
+     * transaction mein APPLIED ho jaata hai. Seat leni ho (jaise WAITLISTED -> APPROVED) to capacity
+     * event_stats ke conditional UPDATE se check hoti hai - bhara event ho to EventFullException, row jaisi thi.
+     */
+    @Transactional
+    public Registration updateStatus(Long regId, String status) {
+        Registration reg = registrationRepository.findByIdForUpdate(regId)
+                .orElseThrow(() -> new RuntimeException("Registration not found"));
+        return applyStatus(reg, status);
+    }
+
+    /**
+     * Faculty ka status change: registration lock ke baad uske event ka club DB se check hota hai.
+     *
+     * @return updated registration, ya null agar event clubId ka nahi hai (kuch nahi badla)
+     */
+    @Transactional
+    public Registration updateStatus(Long regId, String status, String clubId) {
+        Registration reg = registrationRepository.findByIdForUpdate(regId)
+                .orElseThrow(() -> new RuntimeException("Registration not found"));
+        List<String> owner = jdbcTemplate.queryForList("SELECT club_id FROM events WHERE event_id = ?", String.class,
+                reg.getEventId());
+        if (owner.isEmpty()) {
+            throw new RuntimeException("Event not found");
+        }
+        if (clubId == null || !clubId.equals(owner.get(0))) {
+            return null;
+        }
+        return applyStatus(reg, status);
+    }
+
+    private Registration applyStatus(Registration reg, String status) {
+        String previous = reg.getStatus();
+        if (!Objects.equals(previous, status)) {
+            Long eventId = reg.getEventId();
+            boolean heldSeat = EventStatsService.holdsSeat(previous);
+            boolean holdsSeat = EventStatsService.holdsSeat(status);
+            Integer capacity = !heldSeat && holdsSeat ? seatAllocator.capacityOf(eventId) : null;
+            if (capacity != null) {
+                if (!eventStatsService.claimSeatsForStatusChange(eventId, Map.of(previous, 1L), status, capacity)) {
+                    throw new EventFullException("Event is full - registration stays " + previous);
+                }
+            } else {
+                eventStatsService.recordStatusChange(eventId, previous, status);
+            }
+            reg.setStatus(status);
+            publishChange(RegistrationChangedEvent.Type.STATUS_CHANGED, reg);
+
+            if (heldSeat != holdsSeat) {
+                if (heldSeat) {
+                    // WAITLISTED par demote hua row khud head na ban jaaye
+                    promoteFromWaitlist(eventId, Set.of(reg.getRegId()));
+                }
+                // Seats badli - in-memory counter commit ke baad DB se reload hoga
+                evictSeatsAfterCommit(eventId);
+            }
+        }
+        return reg;
+    }
+
+    /**
+     * Faculty ka bulk approve/reject. Ownership aur purana status ek joined query se (rows locked, regId order
+     * mein taaki deadlock na ho), badlav ek set-based UPDATE se, counters har event ke liye ek upsert se.
+     * Khaali hui seats waitlist se bhari jaati hain; seat lene wali rows capacity tak hi badalti hain (baaki FULL).
+     * Club ko ek hi aggregated live notification jaata hai.
+     *
+     * @throws IllegalArgumentException status galat, na regIds na eventId, ya limit se zyada registrations
+     */
+    @Transactional
+    public BulkStatusResult bulkUpdateStatus(String clubId, BulkStatusRequest request) {
+        String status = request.getStatus() == null ? "" : request.getStatus().trim().toUpperCase(Locale.ROOT);
+        if (!BULK_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Status must be one of " + BULK_STATUSES);
+        }
+
+        List<Long> requested;
+        Map<Long, Target> found = new LinkedHashMap<>();
+        if (request.getRegIds() != null && !request.getRegIds().isEmpty()) {
+            requested = new ArrayList<>(new LinkedHashSet<>(request.getRegIds()));
+            if (requested.size() > maxBulkSize) {
+                throw new IllegalArgumentException("At most " + maxBulkSize + " registrations per request");
+            }
+            jdbcTemplate.query(TARGET_SELECT + " WHERE r.reg_id IN (" + placeholders(requested.size())
+                    + ") ORDER BY r.reg_id FOR UPDATE", rs -> {
+                        found.put(rs.getLong("reg_id"), target(rs));
+                    }, requested.toArray());
+        } else if (request.getEventId() != null) {
+            // Filter: sirf apne club ka event, optional purana status
+            StringBuilder sql = new StringBuilder(TARGET_SELECT).append(" WHERE r.event_id = ? AND e.club_id = ?");
+            List<Object> args = new ArrayList<>(List.of(request.getEventId(), clubId));
+            if (request.getFromStatus() != null && !request.getFromStatus().isBlank()) {
+                sql.append(" AND r.status = ?");
+                args.add(request.getFromStatus().trim().toUpperCase(Locale.ROOT));
+            }
+            sql.append(" ORDER BY r.reg_id LIMIT ? FOR UPDATE");
+            args.add(maxBulkSize + 1);
+            jdbcTemplate.query(sql.toString(), rs -> {
+                found.put(rs.getLong("reg_id"), target(rs));
+            }, args.toArray());
+            if (found.size() > maxBulkSize) {
+                throw new IllegalArgumentException("Filter matches more than " + maxBulkSize + " registrations, narrow it down");
+            }
+            requested = new ArrayList<>(found.keySet());
+        } else {
+            throw new IllegalArgumentException("Either regIds or eventId is required");
+        }
+
+        List<BulkStatusOutcome> outcomes = new ArrayList<>(requested.size());
+        List<Target> changed = new ArrayList<>();
+        for (Long regId : requested) {
+            Target target = found.get(regId);
+            String outcome;
+            if (target == null) {
+                outcome = "NOT_FOUND";
+            } else if (!Objects.equals(clubId, target.clubId())) {
+                outcome = "FORBIDDEN";
+            } else if (status.equals(target.status())) {
+                outcome = "UNCHANGED";
+            } else {
+                outcome = "UPDATED";
+                changed.add(target);
+            }
+            outcomes.add(new BulkStatusOutcome(regId, outcome));
+        }
+
+        // Seat lene wale badlav (WAITLISTED/REJECTED -> APPLIED/APPROVED): capacity wale events mein jitni seats
+        // bachi utne hi; baaki rows nahi badalti aur unka outcome FULL
+        boolean takesSeat = EventStatsService.holdsSeat(status);
+        Set<Long> seated = new HashSet<>();
+        Set<Long> full = new HashSet<>();
+        if (takesSeat) {
+            claimSeats(changed, status, seated, full);
+            if (!full.isEmpty()) {
+                changed.removeIf(target -> full.contains(target.regId()));
+                outcomes.stream()
+                        .filter(outcome -> full.contains(outcome.getRegId()))
+                        .forEach(outcome -> outcome.setOutcome("FULL"));
+            }
+        }
+        if (changed.isEmpty()) {
+            return new BulkStatusResult(status, 0, outcomes);
+        }
+
+        List<Object> args = new ArrayList<>(changed.size() + 1);
+        args.add(status);
+        changed.forEach(target -> args.add(target.regId()));
+        jdbcTemplate.update("UPDATE registrations SET status = ? WHERE reg_id IN (" + placeholders(changed.size()) + ")",
+                args.toArray());
+
+        // Har event: purane status ke hisaab se counters ka ek delta (seated rows ka claimSeats mein lag chuka),
+        // aur kitni seats khaali hui
+        Map<Long, Map<String, Long>> fromCountsByEvent = new LinkedHashMap<>();
+        Map<Long, Integer> seatsFreed = new HashMap<>();
+        Set<Long> seatsChanged = new LinkedHashSet<>();
+        for (Target target : changed) {
+            if (!seated.contains(target.regId())) {
+                fromCountsByEvent.computeIfAbsent(target.eventId(), id -> new HashMap<>())
+                        .merge(target.status(), 1L, Long::sum);
+            }
+            if (EventStatsService.holdsSeat(target.status()) != takesSeat) {
+                seatsChanged.add(target.eventId());
+                if (!takesSeat) {
+                    seatsFreed.merge(target.eventId(), 1, Integer::sum);
+                }
+            }
+        }
+        fromCountsByEvent.forEach((eventId, fromCounts) -> eventStatsService.recordStatusChanges(eventId, fromCounts, status));
+        // Is batch ki rows promotion se bahar - warna WAITLISTED par demote hui rows (sabse purani) turant wapas APPLIED
+        Set<Long> changedIds = new HashSet<>();
+        changed.forEach(target -> changedIds.add(target.regId()));
+        seatsFreed.forEach((eventId, freed) -> {
+            // Har khaali seat par waitlist ka agla head (jab tak waitlist khatam na ho)
+            int promoted = 0;
+            while (promoted < freed && promoteFromWaitlist(eventId, changedIds)) {
+                promoted++;
+            }
+        });
+        seatsChanged.forEach(this::evictSeatsAfterCommit);
+
+        eventPublisher.publishEvent(new RegistrationsBulkChangedEvent(clubId, status, changed.stream()
+                .map(target -> new RegistrationsBulkChangedEvent.Change(target.regId(), target.eventId(), target.userId()))
+                .toList()));
+        return new BulkStatusResult(status, changed.size(), outcomes);
+    }
+
+    /**
+     * Capacity wale har event ke liye: seat paane wali rows gin kar stats row lock, jitni seats bachi utni rows
+     * (request order mein) ek conditional UPDATE se claim. Claimed rows ke counters yahin lag jaate hain.
+     *
+     * @param seated claim hui regIds (counters ho chuke)
+     * @param full   jo capacity mein nahi aayi - update nahi hongi
+     */
+    private void claimSeats(List<Target> changed, String status, Set<Long> seated, Set<Long> full) {
+        Map<Long, List<Target>> gainingByEvent = new LinkedHashMap<>();
+        for (Target target : changed) {
+            if (!EventStatsService.holdsSeat(target.status())) {
+                gainingByEvent.computeIfAbsent(target.eventId(), id -> new ArrayList<>()).add(target);
+            }
+        }
+        for (Map.Entry<Long, List<Target>> entry : gainingByEvent.entrySet()) {
+            Long eventId = entry.getKey();
+            List<Target> gaining = entry.getValue();
+            Integer capacity = seatAllocator.capacityOf(eventId);
+            if (capacity == null) {
+                continue;
+            }
+            // Stats row lock - transaction khatam hone tak koi aur seat nahi le sakta
+            eventStatsService.ensureRow(eventId);
+            Long taken = jdbcTemplate.queryForObject("SELECT total_count - rejected_count - waitlisted_count "
+                    + "FROM event_stats WHERE event_id = ? FOR UPDATE", Long.class, eventId);
+            int fit = (int) Math.max(0, Math.min(gaining.size(), capacity - (taken == null ? 0 : taken)));
+
+            Map<String, Long> fromCounts = new HashMap<>();
+            gaining.subList(0, fit).forEach(target -> fromCounts.merge(target.status(), 1L, Long::sum));
+            if (fit == 0 || !eventStatsService.claimSeatsForStatusChange(eventId, fromCounts, status, capacity)) {
+                fit = 0;
+            }
+            for (int i = 0; i < gaining.size(); i++) {
+                (i < fit ? seated : full).add(gaining.get(i).regId());
+            }
+        }
+    }
+
+    private static Target target(ResultSet rs) throws SQLException {
+        return new Target(rs.getLong("reg_id"), rs.getLong("event_id"), rs.getLong("user_id"), rs.getString("status"),
+                rs.getString("club_id"));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    // @param excluded isi change wali regIds (khaali nahi), jo promote nahi hongi
+    // @return waitlist se koi promote hua ya nahi
+    private boolean promoteFromWaitlist(Long eventId, Collection<Long> excluded) {
+        Integer capacity = seatAllocator.capacityOf(eventId);
+        if (capacity == null) {
+            return false;
+        }
+        List<Registration> head = registrationRepository.findWaitlistHeadForUpdate(eventId, excluded, PageRequest.of(0, 1));
+        if (!head.isEmpty() && eventStatsService.claimSeatFromWaitlist(eventId, capacity)) {
+            Registration promoted = head.get(0);
+            promoted.setStatus(EventStatsService.APPLIED);
+            publishChange(RegistrationChangedEvent.Type.STATUS_CHANGED, promoted);
+            return true;
+        }
+        return false;
+    }
+
+    // Live updates (SSE) - transaction ke andar publish hua to commit ke baad deliver hota hai
+    private void publishChange(RegistrationChangedEvent.Type type, Registration reg) {
+        eventPublisher.publishEvent(new RegistrationChangedEvent(type, reg.getRegId(), reg.getEventId(),
+                reg.getUserId(), null, reg.getStatus(), null));
+    }
+
+    private void evictSeatsAfterCommit(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            seatAllocator.evict(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatAllocator.evict(eventId);
+            }
+        });
+    }
+}
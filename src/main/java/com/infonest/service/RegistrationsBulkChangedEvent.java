@@ -0,0 +1,13 @@
+package com.infonest.service;
+
+import java.util.List;
+
+/**
+ * Ek bulk status change (faculty ne kai registrations ek saath approve/reject kiye) - live updates ke liye
+ * club ko ek hi aggregated notification jaata hai.
+ */
+public record RegistrationsBulkChangedEvent(String clubId, String status, List<Change> changes) {
+
+    public record Change(Long regId, Long eventId, Long userId) {
+    }
+}
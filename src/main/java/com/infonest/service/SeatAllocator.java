@@ -0,0 +1,152 @@
+package com.infonest.service;
+
+import com.infonest.model.EventStats;
+import com.infonest.repository.EventRepository;
+import com.infonest.repository.EventStatsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Capacity wale events ke liye in-memory seat counter (per event ek AtomicInteger, CAS se - koi lock nahi).
+ * Ye sirf fast gate hai: event full hone ke baad registrations stats row ke lock tak pahunchte hi nahi.
+ * Final faisla hamesha event_stats par conditional UPDATE ka hota hai, isliye counter stale ho
+ * (doosra instance, faculty override) to bhi seat oversell nahi hoti - bas counter reload ho jaata hai.
+ */
+@Component
+public class SeatAllocator {
+
+    public enum Kind {
+        UNLIMITED, // capacity set nahi hai
+        SEAT,      // counter ne seat di - DB claim abhi baaki hai
+        FULL       // seedha waitlist
+    }
+
+    /**
+     * acquire() ka result. Jis Seats counter se seat li gayi wo saath rehta hai, taaki release/markFull
+     * usi instance par ho - beech mein evict/reload hua ho to naye (DB se load hue) counter ko nahi chhedte.
+     */
+    public static final class Admission {
+        private final Kind kind;
+        private final Seats seats;
+
+        private Admission(Kind kind, Seats seats) {
+            this.kind = kind;
+            this.seats = seats;
+        }
+
+        public Kind kind() {
+            return kind;
+        }
+    }
+
+    private static final Seats UNLIMITED = new Seats(null, 0);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Autowired
+    private EventStatsService eventStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ConcurrentMap<Long, Seats> seats = new ConcurrentHashMap<>();
+
+    public Admission acquire(Long eventId) {
+        Seats current = seats(eventId);
+        if (current.capacity == null) {
+            return new Admission(Kind.UNLIMITED, current);
+        }
+        return new Admission(current.tryAcquire() ? Kind.SEAT : Kind.FULL, current);
+    }
+
+    // SEAT mila tha par registration insert nahi hua (duplicate) - seat usi counter mein wapas.
+    // Counter evict ho chuka ho to naya wala DB se load hua hai aur ye seat usme gini hi nahi gayi
+    public void release(Admission admission) {
+        if (admission.kind == Kind.SEAT) {
+            admission.seats.remaining.incrementAndGet();
+        }
+    }
+
+    // DB ne claim reject kiya - counter galat tha, ab is instance par bhi full
+    public void markFull(Admission admission) {
+        if (admission.seats.capacity != null) {
+            admission.seats.remaining.set(0);
+        }
+    }
+
+    // null = unlimited
+    public Integer capacityOf(Long eventId) {
+        return seats(eventId).capacity;
+    }
+
+    // Agli request par DB se dobara load (status change, capacity edit)
+    public void evict(Long eventId) {
+        seats.remove(eventId);
+    }
+
+    // Event edit/delete mein capacity badal sakti hai
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.eventsChanged()) {
+            seats.clear();
+        }
+    }
+
+    // Load (findById + ensureRow transaction) map ke bahar - computeIfAbsent ke andar DB I/O bin lock
+    // pakde rakhta, aur usi bin ke doosre events bhi ruk jaate. Do threads saath load karein to
+    // putIfAbsent mein jo pehle pahuncha wahi counter sab use karte hain.
+    private Seats seats(Long eventId) {
+        Seats current = seats.get(eventId);
+        if (current != null) {
+            return current;
+        }
+        Seats loaded = load(eventId);
+        Seats winner = seats.putIfAbsent(eventId, loaded);
+        return winner != null ? winner : loaded;
+    }
+
+    private Seats load(Long eventId) {
+        Integer capacity = eventRepository.findById(eventId)
+                .map(event -> event.getCapacity())
+                .orElse(null);
+        if (capacity == null) {
+            return UNLIMITED;
+        }
+        long taken = transactionTemplate.execute(status -> {
+            eventStatsService.ensureRow(eventId);
+            return eventStatsRepository.findById(eventId).map(EventStats::getSeatsTaken).orElse(0L);
+        });
+        return new Seats(capacity, (int) Math.max(capacity - taken, 0));
+    }
+
+    private static final class Seats {
+        private final Integer capacity;
+        private final AtomicInteger remaining;
+
+        private Seats(Integer capacity, int remaining) {
+            this.capacity = capacity;
+            this.remaining = new AtomicInteger(remaining);
+        }
+
+        private boolean tryAcquire() {
+            int left;
+            do {
+                left = remaining.get();
+                if (left <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(left, left - 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.infonest.service;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * List endpoints ka fields= parameter (sparse fieldset), jaise fields=eventId,eventName,eventDate.
+ * Khaali / na diya ho to har item poora jaata hai; warna har item mein sirf maange gaye JSON properties
+ * (naam case-insensitive match hote hain, anjaan naam chup-chaap ignore). Kaunsa projection query ho (e.g. description chahiye ya nahi) wo caller
+ * requested() se tay karta hai - ye class sirf response trim karti hai.
+ */
+public final class SparseFields {
+
+    private static final SparseFields ALL = new SparseFields(Collections.emptySet());
+
+    private final Set<String> names;
+
+    private SparseFields(Set<String> names) {
+        this.names = names;
+    }
+
+    public static SparseFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        Arrays.stream(fields.split(","))
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .filter(name -> !name.isEmpty())
+                .forEach(names::add);
+        return names.isEmpty() ? ALL : new SparseFields(Collections.unmodifiableSet(names));
+    }
+
+    // true = koi fields= nahi, sab properties
+    public boolean isAll() {
+        return names.isEmpty();
+    }
+
+    // Field ko explicitly maanga gaya hai? (case-insensitive, jaise pehle wantsDescription tha)
+    public boolean requested(String field) {
+        return names.contains(field.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return items jaise the (isAll), ya har item ka ObjectNode sirf maange gaye fields ke saath
+     */
+    public List<?> apply(JsonMapper jsonMapper, List<?> items) {
+        if (isAll()) {
+            return items;
+        }
+        return items.stream()
+                .map(item -> {
+                    ObjectNode node = jsonMapper.valueToTree(item);
+                    List<String> kept = node.propertyNames().stream()
+                            .filter(property -> names.contains(property.toLowerCase(Locale.ROOT)))
+                            .toList();
+                    return node.retain(kept);
+                })
+                .toList();
+    }
+}
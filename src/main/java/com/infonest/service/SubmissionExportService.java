@@ -0,0 +1,305 @@
+package com.infonest.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Club submissions ka CSV / NDJSON export, seedha response stream mein. Rows forward-only cursor se aati hain
+ * (MySQL par fetch-size Integer.MIN_VALUE = row-by-row streaming), har row likhte hi chhod di jaati hai -
+ * memory row count par depend nahi karti.
+ *
+ * CSV ko header pehle chahiye, isliye pehla pass sirf form_data padhkar JSON keys ikattha karta hai
+ * (max-form-columns tak), doosra pass rows likhta hai. NDJSON ek hi pass hai. Form answers apne namespace mein
+ * rehte hain (CSV mein "form.<key>" columns, NDJSON mein nested "form" object) - "status"/"email" naam ka form
+ * field asli column ko overwrite nahi karta.
+ * Ek waqt mein kitne export chalein ye semaphore se bounded hai - har export ek DB connection poore waqt rakhta hai.
+ */
+@Service
+public class SubmissionExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"), NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            return value == null || value.isBlank() ? CSV : Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final List<String> FIXED_COLUMNS = List.of("reg_id", "event_id", "event_name", "user_id",
+            "first_name", "last_name", "email", "status", "submission_date");
+
+    // formData valid JSON object na ho to raw value is column mein
+    private static final String RAW_FORM_COLUMN = "form_data";
+
+    // CSV form columns ka prefix / NDJSON mein form answers ka object
+    private static final String FORM_PREFIX = "form.";
+    private static final String FORM_OBJECT = "form";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Value("${infonest.export.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    @Value("${infonest.export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${infonest.export.max-form-columns:100}")
+    private int maxFormColumns;
+
+    // Sirf export ke liye alag JdbcTemplate, taaki streaming fetch size baaki queries par na lage
+    private JdbcTemplate exportJdbcTemplate;
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        exportJdbcTemplate = new JdbcTemplate(dataSource);
+        exportJdbcTemplate.setFetchSize(fetchSize);
+        permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Export ka body, permit ke saath. Permit body khatam hone par wapas aata hai; body kabhi chale hi nahi
+     * (client async dispatch se pehle chala gaya, dispatch reject/timeout) to caller ka completion callback
+     * release() bulata hai - dono mein se jo pehle, doosra no-op.
+     */
+    public final class Export implements StreamingResponseBody {
+        private final String clubId;
+        private final Long eventId;
+        private final String status;
+        private final Format format;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Export(String clubId, Long eventId, String status, Format format) {
+            this.clubId = clubId;
+            this.eventId = eventId;
+            this.status = status;
+            this.format = format;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try {
+                write(clubId, eventId, status, format, out);
+            } finally {
+                release();
+            }
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * @return response body, ya null agar pehle se max-concurrent exports chal rahe hain
+     */
+    public Export openExport(String clubId, Long eventId, String status, Format format) {
+        if (!permits.tryAcquire()) {
+            return null;
+        }
+        return new Export(clubId, eventId, status, format);
+    }
+
+    public void write(String clubId, Long eventId, String status, Format format, OutputStream out) throws IOException {
+        String statusFilter = status == null || status.isBlank() ? null : status.trim().toUpperCase(Locale.ROOT);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                writeCsv(clubId, eventId, statusFilter, writer);
+            } else {
+                writeNdjson(clubId, eventId, statusFilter, writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(String clubId, Long eventId, String status, Writer writer) throws IOException {
+        List<String> formColumns = new ArrayList<>(collectFormKeys(clubId, eventId, status));
+
+        List<String> header = new ArrayList<>(FIXED_COLUMNS);
+        header.addAll(formColumns);
+        writeCsvLine(writer, header);
+
+        List<String> line = new ArrayList<>(header.size());
+        stream("r.reg_id, r.event_id, e.event_name, r.user_id, u.first_name, u.last_name, u.email, r.status, "
+                + "r.submission_date, r.form_data", clubId, eventId, status, rs -> {
+                    line.clear();
+                    Map<String, Object> fixed = fixedColumns(rs);
+                    for (String column : FIXED_COLUMNS) {
+                        line.add(stringOf(fixed.get(column)));
+                    }
+                    Map<String, String> form = formColumns(rs.getString("form_data"));
+                    for (String column : formColumns) {
+                        line.add(form.get(column));
+                    }
+                    writeCsvLine(writer, line);
+                });
+    }
+
+    private void writeNdjson(String clubId, Long eventId, String status, Writer writer) {
+        stream("r.reg_id, r.event_id, e.event_name, r.user_id, u.first_name, u.last_name, u.email, r.status, "
+                + "r.submission_date, r.form_data", clubId, eventId, status, rs -> {
+                    Map<String, Object> row = fixedColumns(rs);
+                    String formData = rs.getString("form_data");
+                    Map<String, String> answers = FormData.flatten(jsonMapper, formData);
+                    if (answers != null) {
+                        row.put(FORM_OBJECT, answers);
+                    } else if (formData != null && !formData.isBlank()) {
+                        row.put(RAW_FORM_COLUMN, formData);
+                    }
+                    writeRaw(writer, jsonMapper.writeValueAsString(row));
+                    writeRaw(writer, "\n");
+                });
+    }
+
+    // Pehla pass: sirf form_data, JSON keys ka union (pehli baar dikhne ke order mein)
+    private Set<String> collectFormKeys(String clubId, Long eventId, String status) {
+        Set<String> keys = new LinkedHashSet<>();
+        stream("r.form_data", clubId, eventId, status, rs -> {
+            if (keys.size() < maxFormColumns) {
+                for (String key : formColumns(rs.getString("form_data")).keySet()) {
+                    if (keys.size() >= maxFormColumns) {
+                        break;
+                    }
+                    keys.add(key);
+                }
+            }
+        });
+        return keys;
+    }
+
+    private void stream(String columns, String clubId, Long eventId, String status, RowCallbackHandler rowHandler) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns)
+                .append(" FROM registrations r JOIN events e ON e.event_id = r.event_id")
+                .append(" LEFT JOIN users u ON u.user_id = r.user_id WHERE e.club_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(clubId);
+        if (eventId != null) {
+            sql.append(" AND r.event_id = ?");
+            args.add(eventId);
+        }
+        if (status != null) {
+            sql.append(" AND r.status = ?");
+            args.add(status);
+        }
+        sql.append(" ORDER BY r.reg_id");
+
+        exportJdbcTemplate.query(sql.toString(), rowHandler, args.toArray());
+    }
+
+    private static Map<String, Object> fixedColumns(ResultSet rs) throws SQLException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("reg_id", rs.getLong("reg_id"));
+        row.put("event_id", rs.getLong("event_id"));
+        row.put("event_name", rs.getString("event_name"));
+        row.put("user_id", rs.getLong("user_id"));
+        row.put("first_name", rs.getString("first_name"));
+        row.put("last_name", rs.getString("last_name"));
+        row.put("email", rs.getString("email"));
+        row.put("status", rs.getString("status"));
+        Timestamp submitted = rs.getTimestamp("submission_date");
+        row.put("submission_date", submitted != null ? submitted.toLocalDateTime().toString() : null);
+        return row;
+    }
+
+    // CSV column name -> value: answers "form.<key>" mein, isliye fixed columns se kabhi nahi takraate
+    private Map<String, String> formColumns(String formData) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        Map<String, String> answers = FormData.flatten(jsonMapper, formData);
+        if (answers != null) {
+            answers.forEach((key, value) -> columns.put(FORM_PREFIX + key, value));
+        } else if (formData != null && !formData.isBlank()) {
+            // purana / galat data - raw column mein
+            columns.put(RAW_FORM_COLUMN, formData);
+        }
+        return columns;
+    }
+
+    private static void writeCsvLine(Writer writer, List<String> values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(csvEscape(values.get(i)));
+        }
+        line.append("\r\n");
+        writeRaw(writer, line.toString());
+    }
+
+    private static String csvEscape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        // Spreadsheet formula injection se bachne ke liye (=, +, -, @ se shuru hone wale cells)
+        String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0) {
+            return '"' + safe.replace("\"", "\"\"") + '"';
+        }
+        return safe;
+    }
+
+    private static String stringOf(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    // RowCallbackHandler IOException nahi fenk sakta
+    private static void writeRaw(Writer writer, String text) {
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.infonest.service;
+
+import com.infonest.dto.RegistrationSummary;
+import com.infonest.dto.SubmissionPage;
+import com.infonest.repository.RegistrationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Faculty submissions ki keyset-paginated listing (naye pehle). Rows mein formData nahi hota;
+ * wo /faculty/registrations/{regId}/form-data se ek-ek karke aata hai.
+ */
+@Service
+public class SubmissionListingService {
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Value("${infonest.submissions.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${infonest.submissions.page.max-size:200}")
+    private int maxPageSize;
+
+    public SubmissionPage listSubmissions(String clubId, Long eventId, String status, Long after, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        String statusFilter = status == null || status.isBlank() ? null : status.trim().toUpperCase(Locale.ROOT);
+
+        // Ek extra row fetch karke pata chalta hai ki agla page hai ya nahi (COUNT query ke bina)
+        List<RegistrationSummary> rows = registrationRepository.findClubSubmissions(clubId, eventId, statusFilter,
+                after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new SubmissionPage(rows, null);
+        }
+        List<RegistrationSummary> items = rows.subList(0, pageSize);
+        return new SubmissionPage(items, items.get(pageSize - 1).getRegId());
+    }
+}
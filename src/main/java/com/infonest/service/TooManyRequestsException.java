@@ -0,0 +1,18 @@
+package com.infonest.service;
+
+/**
+ * Request abhi process nahi ho sakti (rate limit / worker pool bhara). Controller isse 429 + Retry-After banata hai.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
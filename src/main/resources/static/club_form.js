@@ -1,3 +1,6 @@
+// Is page ka har submit attempt same key bhejta hai, taaki double-submit par duplicate registration na bane
+const registrationKey = window.InfoNest.newIdempotencyKey();
+
 document.getElementById('customRegistrationForm').addEventListener('submit', async (e) => {
     e.preventDefault();
 
@@ -24,6 +27,7 @@ document.getElementById('customRegistrationForm').addEventListener('submit', asy
         // 2. Create registration record
         const registerResponse = await window.InfoNest.authenticatedFetch('/student/register', {
             method: 'POST',
+            headers: { 'Idempotency-Key': registrationKey },
             body: JSON.stringify({
                 eventId: eventId,
                 userId: auth.userId
@@ -45,16 +49,27 @@ document.getElementById('customRegistrationForm').addEventListener('submit', asy
         const regId = regData.regId;
 
         // 3. Update with form data
-        const updateResponse = await window.InfoNest.authenticatedFetch('/student/update-form-data', {
-            method: 'PUT',
-            body: JSON.stringify({
-                regId: regId,
-                formData: JSON.stringify(dataObject)
-            })
-        });
+        // 429 = server ki queue bhari hai, thoda ruk kar dobara bhejo
+        let updateResponse;
+        for (let attempt = 0; attempt < 3; attempt++) {
+            updateResponse = await window.InfoNest.authenticatedFetch('/student/update-form-data', {
+                method: 'PUT',
+                body: JSON.stringify({
+                    regId: regId,
+                    formData: JSON.stringify(dataObject)
+                })
+            });
+            if (updateResponse.status !== 429) break;
+            await new Promise(resolve => setTimeout(resolve, 1000 * (attempt + 1)));
+        }
 
         if (updateResponse.ok) {
-            alert("Registration Successful! Your data has been saved.");
+            if (regData.status === 'WAITLISTED') {
+                // Event full - seat khaali hote hi registration apne aap APPLIED ho jaayega
+                alert("This event is full. You have been added to the waitlist and will be moved in automatically if a seat opens up.");
+            } else {
+                alert("Registration Successful! Your data has been saved.");
+            }
             // Cleanup
             localStorage.removeItem('savedEventId');
             localStorage.removeItem('savedLink');
@@ -16,6 +16,14 @@ document.addEventListener('DOMContentLoaded', () => {
     
     // Load faculty's own registrations
     loadMyRegistrations();
+
+    // Naye applicants / status / form data live - poll ki zaroorat nahi
+    if (clubId) {
+        window.InfoNest.openLiveStream(`/faculty/stream/${encodeURIComponent(clubId)}`, applySubmissionDelta, () => {
+            // Reconnect: beech mein jo chhoota wo full list se
+            if (submissionsLoaded) loadSubmissions();
+        });
+    }
 });
 
 // ==================== MODAL FUNCTIONS ====================
@@ -55,6 +63,16 @@ function displayEvents(events) {
     if (!container) return;
     
     container.innerHTML = '';
+
+    // Submissions ke event filter + naam (live deltas mein sirf eventId aata hai)
+    const filter = document.getElementById('submissionEventFilter');
+    if (filter) {
+        const selected = filter.value;
+        filter.innerHTML = '<option value="">All events</option>' + events
+            .map(event => `<option value="${event.eventId}">${event.eventName}</option>`).join('');
+        filter.value = selected;
+    }
+    events.forEach(event => { eventNames[event.eventId] = event.eventName; });
     
     if (events.length === 0) {
         container.innerHTML = '<tr><td colspan="6">No events found for your club.</td></tr>';
@@ -250,35 +268,107 @@ async function deleteEvent(eventId) {
 }
 
 // ==================== SUBMISSIONS MANAGEMENT ====================
-async function loadSubmissions() {
+// List paginated aati hai (bina form data ke); form data "View" click par alag se
+let submissionsLoaded = false;
+let submissionsCursor = null;
+const eventNames = {};
+
+function submissionFilters() {
+    return {
+        eventId: document.getElementById('submissionEventFilter')?.value || '',
+        status: document.getElementById('submissionStatusFilter')?.value || ''
+    };
+}
+
+function formCell(regId, hasFormData) {
+    return hasFormData
+        ? `<button onclick="showFormData(${regId})">View</button><pre style="max-width: 200px; overflow: auto; display: none;"></pre>`
+        : 'N/A';
+}
+
+function submissionRow(reg) {
+    const statusClass = `status-${reg.status.toLowerCase()}`;
+    const eventLabel = reg.eventName || eventNames[reg.eventId] || `Event #${reg.eventId}`;
+    return `
+        <tr data-reg-id="${reg.regId}">
+            <td><input type="checkbox" class="reg-select" value="${reg.regId}"></td>
+            <td>${reg.userId}</td>
+            <td>${eventLabel}</td>
+            <td class="reg-form">${formCell(reg.regId, reg.hasFormData)}</td>
+            <td class="reg-status ${statusClass}">${reg.status}</td>
+            <td>
+                <button onclick="updateRegStatus(${reg.regId}, 'APPROVED')" style="background-color: #28a745;">Approve</button>
+                <button onclick="updateRegStatus(${reg.regId}, 'REJECTED')" style="background-color: #dc3545;">Reject</button>
+            </td>
+        </tr>
+    `;
+}
+
+// SSE delta: sirf ek row update/insert, poori list reload nahi
+function applySubmissionDelta(delta) {
+    const tbody = document.getElementById('submissionBody');
+    if (!tbody || !submissionsLoaded) return;
+
+    if (delta.type === 'BULK_STATUS_CHANGED') {
+        delta.regIds.forEach(regId => applySubmissionDelta({ regId, status: delta.status }));
+        return;
+    }
+
+    const row = tbody.querySelector(`tr[data-reg-id="${delta.regId}"]`);
+    if (!row) {
+        // Naya registration sirf tab dikhao jab current filters se match kare
+        const filters = submissionFilters();
+        if (delta.type !== 'CREATED'
+                || (filters.eventId && String(delta.eventId) !== filters.eventId)
+                || (filters.status && delta.status !== filters.status)) {
+            return;
+        }
+        if (tbody.querySelector('td[colspan]')) tbody.innerHTML = '';
+        tbody.insertAdjacentHTML('afterbegin', submissionRow({ ...delta, hasFormData: !!delta.formData }));
+        return;
+    }
+    if (delta.status) {
+        const cell = row.querySelector('.reg-status');
+        cell.className = `reg-status status-${delta.status.toLowerCase()}`;
+        cell.textContent = delta.status;
+    }
+    if (delta.formData) {
+        const pre = row.querySelector('.reg-form pre');
+        if (pre) {
+            pre.textContent = delta.formData;
+        } else {
+            row.querySelector('.reg-form').innerHTML = formCell(delta.regId, true);
+        }
+    }
+}
+
+// Pehla page (filters badalne / refresh par); append=true par agla page neeche jodta hai
+async function loadSubmissions(append = false) {
+    if (!append) submissionsCursor = null;
+
+    const filters = submissionFilters();
+    const params = new URLSearchParams();
+    if (filters.eventId) params.set('eventId', filters.eventId);
+    if (filters.status) params.set('status', filters.status);
+    if (submissionsCursor) params.set('after', submissionsCursor);
+
     try {
-        const response = await window.InfoNest.authenticatedFetch(`/faculty/submissions/${clubId}`);
+        const response = await window.InfoNest.authenticatedFetch(`/faculty/submissions/${clubId}/page?${params}`);
         
         if (response.ok) {
-            const data = await response.json();
+            const page = await response.json();
             const tbody = document.getElementById('submissionBody');
-            tbody.innerHTML = '';
+            if (!append) tbody.innerHTML = '';
+            submissionsLoaded = true;
+            submissionsCursor = page.nextCursor;
+            document.getElementById('loadMoreSubmissions').style.display = page.nextCursor ? 'inline-block' : 'none';
 
-            if (data.length === 0) {
-                tbody.innerHTML = '<tr><td colspan="5">No submissions found.</td></tr>';
+            if (!append && page.items.length === 0) {
+                tbody.innerHTML = '<tr><td colspan="6">No submissions found.</td></tr>';
                 return;
             }
 
-            data.forEach(reg => {
-                const statusClass = `status-${reg.status.toLowerCase()}`;
-                tbody.innerHTML += `
-                    <tr>
-                        <td>${reg.userId}</td>
-                        <td>${reg.eventId}</td>
-                        <td><pre style="max-width: 200px; overflow: auto;">${reg.formData || 'N/A'}</pre></td>
-                        <td class="${statusClass}">${reg.status}</td>
-                        <td>
-                            <button onclick="updateRegStatus(${reg.regId}, 'APPROVED')" style="background-color: #28a745;">Approve</button>
-                            <button onclick="updateRegStatus(${reg.regId}, 'REJECTED')" style="background-color: #dc3545;">Reject</button>
-                        </td>
-                    </tr>
-                `;
-            });
+            tbody.insertAdjacentHTML('beforeend', page.items.map(submissionRow).join(''));
         } else {
             const error = await response.text();
             alert('Failed to load submissions: ' + error);
@@ -289,6 +379,39 @@ async function loadSubmissions() {
     }
 }
 
+// Export current filters ke saath; server CSV/NDJSON stream karta hai
+function exportSubmissions(format) {
+    const filters = submissionFilters();
+    const params = new URLSearchParams({ format });
+    if (filters.eventId) params.set('eventId', filters.eventId);
+    if (filters.status) params.set('status', filters.status);
+    window.InfoNest.openDownload(`/faculty/export/${encodeURIComponent(clubId)}?${params}`);
+}
+
+// Form data sirf jab faculty dekhna chahe
+async function showFormData(regId) {
+    const pre = document.querySelector(`#submissionBody tr[data-reg-id="${regId}"] .reg-form pre`);
+    if (!pre) return;
+    if (pre.style.display !== 'none') {
+        pre.style.display = 'none';
+        return;
+    }
+
+    try {
+        const response = await window.InfoNest.authenticatedFetch(`/faculty/registrations/${regId}/form-data`);
+        if (response.ok) {
+            const data = await response.json();
+            pre.textContent = data.formData || 'N/A';
+            pre.style.display = 'block';
+        } else {
+            const error = await response.text();
+            alert('Failed to load form data: ' + error);
+        }
+    } catch (error) {
+        console.error('Error loading form data:', error);
+    }
+}
+
 async function updateRegStatus(regId, status) {
     try {
         const response = await window.InfoNest.authenticatedFetch(`/faculty/update-status/${regId}?status=${status}`, {
@@ -297,7 +420,39 @@ async function updateRegStatus(regId, status) {
         
         if (response.ok) {
             alert('Application ' + status);
-            loadSubmissions(); // Refresh list
+            // Sirf ye row update; waitlist se promote hua registration live stream se aata hai
+            applySubmissionDelta({ regId, status });
+        } else {
+            const error = await response.text();
+            alert('Failed to update status: ' + error);
+        }
+    } catch (error) {
+        console.error('Error updating status:', error);
+        alert('Error updating status. Please try again.');
+    }
+}
+
+// Select kiye gaye saare registrations ek request mein (500 alag calls nahi)
+async function bulkUpdateStatus(status) {
+    const regIds = [...document.querySelectorAll('#submissionBody .reg-select:checked')].map(box => Number(box.value));
+    if (regIds.length === 0) {
+        alert('Select at least one submission first.');
+        return;
+    }
+    if (!confirm(`Mark ${regIds.length} submission(s) as ${status}?`)) return;
+
+    try {
+        const response = await window.InfoNest.authenticatedFetch('/faculty/registrations/status', {
+            method: 'PUT',
+            body: JSON.stringify({ regIds, status })
+        });
+
+        if (response.ok) {
+            const result = await response.json();
+            const updated = result.outcomes.filter(o => o.outcome === 'UPDATED').map(o => o.regId);
+            applySubmissionDelta({ type: 'BULK_STATUS_CHANGED', regIds: updated, status: result.status });
+            const skipped = result.outcomes.length - updated.length;
+            alert(`${updated.length} updated` + (skipped ? `, ${skipped} skipped (already ${status} or not yours)` : ''));
         } else {
             const error = await response.text();
             alert('Failed to update status: ' + error);
@@ -308,6 +463,10 @@ async function updateRegStatus(regId, status) {
     }
 }
 
+function toggleAllSubmissions(checked) {
+    document.querySelectorAll('#submissionBody .reg-select').forEach(box => { box.checked = checked; });
+}
+
 // ==================== MY REGISTRATIONS (Faculty's own registrations) ====================
 async function loadMyRegistrations() {
     const userId = auth.userId;
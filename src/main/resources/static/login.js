@@ -48,7 +48,7 @@ document.addEventListener('DOMContentLoaded', () => {
                 const data = await response.json();
 
                 // Save auth data
-                localStorage.setItem('token', data.token);
+                window.InfoNest.saveTokens(data);
                 localStorage.setItem('role', data.role);
                 localStorage.setItem('userId', data.userId);
                 localStorage.setItem('firstName', data.firstName || '');
@@ -20,18 +20,61 @@ const getAuthData = () => {
 // 2. SECURITY: Check if a session exists
 const isAuthenticated = () => !!localStorage.getItem('token');
 
-// 3. LOGOUT: Clear all local data and boot to login
+// 3. LOGOUT: Server par refresh token revoke, phir local data clear karke login par
 const logout = () => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+        // keepalive: page redirect ke baad bhi request poori ho jaaye
+        fetch(`${API_BASE_URL}/auth/logout`, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ refreshToken }),
+            keepalive: true
+        }).catch(() => {});
+    }
     localStorage.clear();
     window.location.href = 'login.html';
 };
+
+// Login/refresh response se tokens save karna
+const saveTokens = (data) => {
+    localStorage.setItem('token', data.token);
+    if (data.refreshToken) {
+        localStorage.setItem('refreshToken', data.refreshToken);
+    }
+};
+
+// Access token expire hone par naya lena (BCrypt/login nahi). Parallel 401s ek hi refresh share karte hain,
+// kyunki refresh token rotate hota hai aur dobara use karne par poora session revoke ho jaata hai.
+// Doosre tabs ke saath race server ki reuse-grace sambhalti hai (wahi successor milta hai); grace ke bahar ya
+// doosre instance par fail hua aur localStorage mein kisi aur tab ka naya token aa chuka ho to wahi use karte hain
+let refreshInFlight = null;
+const refreshAccessToken = () => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (!refreshToken) return Promise.resolve(false);
+    if (!refreshInFlight) {
+        refreshInFlight = fetch(`${API_BASE_URL}/auth/refresh`, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ refreshToken })
+        })
+            .then(async (response) => {
+                if (!response.ok) return localStorage.getItem('refreshToken') !== refreshToken;
+                saveTokens(await response.json());
+                return true;
+            })
+            .catch(() => false)
+            .finally(() => { refreshInFlight = null; });
+    }
+    return refreshInFlight;
+};
 const getQueryParam = (param) => {
     const urlParams = new URLSearchParams(window.location.search);
     return urlParams.get(param);
 };
 
 // 4. API UTILITY: Standardized Fetch that automatically adds the JWT Bearer Token
-async function authenticatedFetch(endpoint, options = {}) {
+async function authenticatedFetch(endpoint, options = {}, retried = false) {
     const { token } = getAuthData();
 
     // Build headers sensibly: start from options.headers (if any)
@@ -52,6 +95,11 @@ async function authenticatedFetch(endpoint, options = {}) {
         headers
     });
 
+    // 401: access token expire ho gaya hoga - ek baar refresh karke same request dobara
+    if (response.status === 401 && !retried && await refreshAccessToken()) {
+        return authenticatedFetch(endpoint, options, true);
+    }
+
     // If the backend returns 401 (Unauthorized) or 403 (Forbidden), the token is likely invalid
     if (response.status === 401 || response.status === 403) {
         console.warn("Session expired or unauthorized access.");
@@ -61,6 +109,67 @@ async function authenticatedFetch(endpoint, options = {}) {
     return response;
 }
 
+// URL mein JWT nahi jaata - Bearer header ke saath single-use ticket (~30 sec) le kar wahi query param mein.
+// null = ticket nahi mila (logged out / network)
+async function fetchStreamTicket() {
+    try {
+        const response = await authenticatedFetch('/users/stream-ticket', { method: 'POST' });
+        if (!response.ok) return null;
+        return (await response.json()).ticket;
+    } catch (err) {
+        return null;
+    }
+}
+
+// LIVE UPDATES (SSE): EventSource header nahi bhej sakta, isliye single-use ticket query param mein.
+// Stream toote to naya ticket le kar backoff ke saath dobara connect.
+// onReconnect har reconnect par chalta hai - beech mein chhoote deltas ke liye list ek baar reload karo
+function openLiveStream(endpoint, onDelta, onReconnect) {
+    let source = null;
+    let retryDelay = 1000;
+    let stopped = false;
+    let connectedOnce = false;
+
+    const connect = async () => {
+        const { token } = getAuthData();
+        if (stopped || !token || !window.EventSource) return;
+        const ticket = await fetchStreamTicket();
+        if (stopped) return;
+        if (!ticket) {
+            setTimeout(connect, retryDelay);
+            retryDelay = Math.min(retryDelay * 2, 30000);
+            return;
+        }
+        source = new EventSource(`${API_BASE_URL}${endpoint}?ticket=${encodeURIComponent(ticket)}`);
+        source.addEventListener('ready', () => {
+            retryDelay = 1000;
+            if (connectedOnce && onReconnect) onReconnect();
+            connectedOnce = true;
+        });
+        source.addEventListener('registration', (e) => onDelta(JSON.parse(e.data)));
+        source.onerror = () => {
+            // Browser ka apna reconnect purana (use ho chuka) ticket bhejta - khud band karke naye ticket se connect.
+            // Token expire hua ho to ticket fetch (authenticatedFetch) refresh kar leta hai
+            source.close();
+            setTimeout(connect, retryDelay);
+            retryDelay = Math.min(retryDelay * 2, 30000);
+        };
+    };
+
+    connect();
+    return {
+        close: () => {
+            stopped = true;
+            if (source) source.close();
+        }
+    };
+}
+
+// Registration retries/double-clicks ke liye ek hi key - server pehle wala registration lautata hai
+const newIdempotencyKey = () => (window.crypto && crypto.randomUUID)
+    ? crypto.randomUUID()
+    : `${Date.now()}-${Math.random().toString(36).slice(2)}`;
+
 // 5. ROLE-BASED REDIRECT LOGIC
 function redirectToDashboard(role) {
     switch (role) {
@@ -101,7 +210,6 @@ async function processRegistration() {
     const eventId = localStorage.getItem('savedEventId');
     const link = localStorage.getItem('savedLink');
     const userId = localStorage.getItem('userId');
-    const token = localStorage.getItem('token');
 
     if (!eventId || !userId) return false;
 
@@ -118,11 +226,10 @@ async function processRegistration() {
         if (confirmAction) {
             try {
                 // Create registration record first (formData will be blank)
-                const response = await fetch('/api/v1/student/register', {
+                const response = await authenticatedFetch('/student/register', {
                     method: 'POST',
                     headers: { 
-                        'Content-Type': 'application/json', 
-                        'Authorization': 'Bearer ' + token 
+                        'Idempotency-Key': newIdempotencyKey()
                     },
                     body: JSON.stringify({ eventId, userId })
                 });
@@ -152,6 +259,20 @@ async function processRegistration() {
     }
 }
 
+// Badi file download (export): browser seedha disk par stream kare, JS memory mein nahi.
+// Link header nahi bhej sakta, isliye single-use ticket ?ticket= mein (JWT URL mein nahi)
+async function openDownload(endpoint) {
+    const ticket = await fetchStreamTicket();
+    if (!ticket) return;
+    const separator = endpoint.includes('?') ? '&' : '?';
+    const link = document.createElement('a');
+    link.href = `${API_BASE_URL}${endpoint}${separator}ticket=${encodeURIComponent(ticket)}`;
+    link.download = '';
+    document.body.appendChild(link);
+    link.click();
+    link.remove();
+}
+
 // 8. INTENT RECOVERY (Called after Login)
 async function handleSavedIntent() {
     return await processRegistration();
@@ -162,11 +283,15 @@ window.InfoNest = {
     logout,
     isAuthenticated,
     getAuthData,
+    saveTokens,
     authenticatedFetch,
+    openLiveStream,
+    openDownload,
     redirectToDashboard,
     handleSavedIntent, // Used by login.js
     handleRegisterClick, // Used by dashboard buttons
     getQueryParam,
+    newIdempotencyKey,
     openModal: (id) => { document.getElementById(id).style.display = 'block'; },
     closeModal: (id) => { document.getElementById(id).style.display = 'none'; }
 };
\ No newline at end of file
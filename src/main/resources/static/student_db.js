@@ -1,3 +1,6 @@
+// regId -> registration (View Details aur live deltas ke liye)
+const registrationsById = {};
+
 document.addEventListener('DOMContentLoaded', async () => {
     const auth = window.InfoNest.getAuthData();
     document.getElementById('studentName').innerText = auth.firstName || "Student";
@@ -7,10 +10,31 @@ document.addEventListener('DOMContentLoaded', async () => {
         return;
     }
 
+    await loadRegistrations(auth.userId);
+
+    // Status change / waitlist promotion live - reconnect par full list ek baar dobara
+    window.InfoNest.openLiveStream(`/student/stream/${auth.userId}`, applyRegistrationDelta,
+        () => loadRegistrations(auth.userId));
+});
+
+function registrationRow(reg) {
+    return `
+        <tr data-reg-id="${reg.regId}">
+            <td>Event #${reg.eventId}</td>
+            <td class="reg-date">${new Date(reg.submissionDate).toLocaleString()}</td>
+            <td><span class="status-badge">${reg.status}</span></td>
+            <td>
+                <button onclick='viewDetails(registrationsById[${reg.regId}])'>View Details</button>
+            </td>
+        </tr>
+    `;
+}
+
+async function loadRegistrations(userId) {
     try {
         // Fetch all registrations for this student
         // Use endpoint relative to API base; `authenticatedFetch` already prefixes `/api/v1`
-        const response = await window.InfoNest.authenticatedFetch(`/student/my-registrations/${auth.userId}`);
+        const response = await window.InfoNest.authenticatedFetch(`/student/my-registrations/${userId}`);
         const registrations = await response.json();
 
         const tbody = document.getElementById('registrationBody');
@@ -22,22 +46,32 @@ document.addEventListener('DOMContentLoaded', async () => {
         }
 
         registrations.forEach(reg => {
-            const row = `
-                <tr>
-                    <td>Event #${reg.eventId}</td>
-                    <td>${new Date(reg.submissionDate).toLocaleString()}</td>
-                    <td><span class="status-badge">${reg.status}</span></td>
-                    <td>
-                        <button onclick='viewDetails(${JSON.stringify(reg)})'>View Details</button>
-                    </td>
-                </tr>
-            `;
-            tbody.insertAdjacentHTML('beforeend', row);
+            registrationsById[reg.regId] = reg;
+            tbody.insertAdjacentHTML('beforeend', registrationRow(reg));
         });
     } catch (err) {
         console.error("Error loading dashboard:", err);
     }
-});
+}
+
+// SSE delta: sirf badli hui row
+function applyRegistrationDelta(delta) {
+    const reg = { ...(registrationsById[delta.regId] || {}), ...delta };
+    if (delta.at && (delta.type === 'CREATED' || delta.type === 'FORM_SUBMITTED')) {
+        reg.submissionDate = delta.at;
+    }
+    registrationsById[delta.regId] = reg;
+
+    const tbody = document.getElementById('registrationBody');
+    const row = tbody.querySelector(`tr[data-reg-id="${delta.regId}"]`);
+    if (!row) {
+        if (tbody.querySelector('td[colspan]')) tbody.innerHTML = '';
+        tbody.insertAdjacentHTML('afterbegin', registrationRow(reg));
+        return;
+    }
+    row.querySelector('.status-badge').textContent = reg.status;
+    row.querySelector('.reg-date').textContent = new Date(reg.submissionDate).toLocaleString();
+}
 
 // Function to handle the View Details Popup
 function viewDetails(reg) {
@@ -0,0 +1,79 @@
+package com.infonest.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private StreamTicketStore streamTicketStore;
+
+    @Autowired
+    private JwtTokenCache jwtTokenCache;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void streamTicketAuthenticatesExactlyOnce() throws Exception {
+        JwtPrincipal faculty = jwtTokenCache.resolve(jwtUtils.generateToken("ticket@club.in", "FACULTY", "TICKET_CLUB"));
+        String ticket = streamTicketStore.issue(faculty);
+
+        Authentication first = perform("/api/v1/faculty/export/TICKET_CLUB", "ticket", ticket);
+        assertNotNull(first);
+        assertEquals(faculty, first.getPrincipal());
+        assertEquals("ROLE_FACULTY", first.getAuthorities().iterator().next().getAuthority());
+
+        // Single-use: dobara (ya browser ke auto-reconnect par) wahi ticket nahi chalta
+        assertNull(perform("/api/v1/faculty/stream/TICKET_CLUB", "ticket", ticket));
+    }
+
+    @Test
+    void rawJwtInQueryStringIsNoLongerAccepted() throws Exception {
+        String token = jwtUtils.generateToken("url@club.in", "STUDENT", null);
+
+        assertNull(perform("/api/v1/student/stream/1", "access_token", token));
+        assertNull(perform("/api/v1/student/stream/1", "ticket", token));
+    }
+
+    @Test
+    void ticketIsOnlyHonouredOnStreamAndExportPaths() throws Exception {
+        JwtPrincipal student = jwtTokenCache.resolve(jwtUtils.generateToken("paths@club.in", "STUDENT", null));
+        String ticket = streamTicketStore.issue(student);
+
+        assertNull(perform("/api/v1/student/my-registrations", "ticket", ticket));
+        // Galat path par ticket consume nahi hua
+        assertNotNull(perform("/api/v1/student/stream/1", "ticket", ticket));
+    }
+
+    private Authentication perform(String path, String param, String value) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.setParameter(param, value);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,69 @@
+package com.infonest.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtKeyRotationTest {
+
+    private static final String SECRET_A = "RotationTestSecretNumberOneThatIsLongEnough";
+    private static final String SECRET_B = "RotationTestSecretNumberTwoThatIsLongEnough";
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private JwtTokenCache jwtTokenCache;
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void restoreKeys() {
+        ReflectionTestUtils.setField(jwtUtils, "keysFile", "");
+        jwtUtils.reloadKeys();
+    }
+
+    @Test
+    void replacingTheSecretUnderAnExistingKidDropsCachedTokens() throws Exception {
+        Path keys = dir.resolve("jwt-keys.properties");
+        Files.writeString(keys, "active-kid=rotating\nkeys.rotating=" + SECRET_A + "\n");
+        ReflectionTestUtils.setField(jwtUtils, "keysFile", keys.toString());
+        jwtUtils.reloadKeys();
+
+        String token = jwtUtils.generateToken("rotate@club.in", "STUDENT", null);
+        assertNotNull(jwtTokenCache.resolve(token));
+
+        // Wahi kid, naya secret - purana token ab cache se bhi nahi chalna chahiye
+        Files.writeString(keys, "active-kid=rotating\nkeys.rotating=" + SECRET_B + "\n");
+        jwtUtils.reloadKeys();
+
+        assertNull(jwtTokenCache.resolve(token));
+        assertNotNull(jwtTokenCache.resolve(jwtUtils.generateToken("rotate@club.in", "STUDENT", null)));
+    }
+
+    @Test
+    void ringReportsKidsWhoseSecretChanged() {
+        JwtKeyRing before = JwtKeyRing.of(Map.of("a", SECRET_A, "b", SECRET_A), "a");
+        JwtKeyRing after = JwtKeyRing.of(Map.of("a", SECRET_A, "b", SECRET_B, "c", SECRET_B), "c");
+
+        assertEquals(Set.of("b"), after.changedKidsSince(before));
+        assertTrue(before.changedKidsSince(before).isEmpty());
+    }
+}
@@ -0,0 +1,67 @@
+package com.infonest.config;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests ke liye query budget assertions: call ko SqlRequestStats capture ke andar chalao aur endpoint ke
+ * @QueryBudget (statements, maxRepeats) ke against check karo. Budget toote to test fail - message mein
+ * repeated statement shapes bhi, taaki N+1 seedha dikhe.
+ *
+ * <pre>
+ * QueryBudgetAssert.assertWithinBudget(ClubController.class, "getClubFullDetails",
+ *         () -> clubController.getClubFullDetails("CODING_CLUB"));
+ * </pre>
+ */
+public final class QueryBudgetAssert {
+
+    private QueryBudgetAssert() {
+    }
+
+    public static <T> T assertWithinBudget(Class<?> controller, String handlerMethod, Supplier<T> call) {
+        QueryBudget budget = budgetOf(controller, handlerMethod);
+        SqlRequestStats.start();
+        T result;
+        SqlRequestStats sql;
+        try {
+            result = call.get();
+        } finally {
+            sql = SqlRequestStats.stop();
+        }
+
+        String handler = controller.getSimpleName() + "#" + handlerMethod;
+        Map<String, Integer> repeated = sql.repeatedShapes(budget.maxRepeats() + 1);
+        if (sql.statements() > budget.statements() || !repeated.isEmpty()) {
+            fail(handler + " ran " + sql.statements() + " SQL statements (budget " + budget.statements()
+                    + ", max " + budget.maxRepeats() + " of one shape); repeated: " + repeated);
+        }
+        return result;
+    }
+
+    /**
+     * @return call ke dauraan chale statements (budget check ke bina)
+     */
+    public static SqlRequestStats capture(Runnable call) {
+        SqlRequestStats.start();
+        try {
+            call.run();
+        } catch (RuntimeException | Error e) {
+            SqlRequestStats.stop();
+            throw e;
+        }
+        return SqlRequestStats.stop();
+    }
+
+    private static QueryBudget budgetOf(Class<?> controller, String handlerMethod) {
+        return Arrays.stream(controller.getMethods())
+                .filter(method -> method.getName().equals(handlerMethod))
+                .map(method -> method.getAnnotation(QueryBudget.class))
+                .filter(budget -> budget != null)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        controller.getSimpleName() + "#" + handlerMethod + " has no @QueryBudget"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.infonest.config;
+
+import com.infonest.controller.ClubController;
+import com.infonest.model.Club;
+import com.infonest.repository.ClubRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RequestMetricsFilterTest {
+
+    private static final String ROUTE = "/api/v1/test-metrics/{clubId}";
+
+    @Autowired
+    private RequestMetricsFilter requestMetricsFilter;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ClubController clubController;
+
+    @Test
+    void sqlStatementsAreCountedPerRouteTemplate() throws Exception {
+        clubRepository.save(new Club("METRICS_CLUB", "Metrics club", null));
+
+        perform("/api/v1/test-metrics/METRICS_CLUB");
+        perform("/api/v1/test-metrics/OTHER");
+
+        DistributionSummary statements = meterRegistry.get("infonest.http.sql.statements")
+                .tag("method", "GET").tag("uri", ROUTE).tag("handler", "none").summary();
+        assertEquals(2, statements.count());
+        // Har request mein kam se kam ek query (clubs findAll)
+        assertTrue(statements.totalAmount() >= 2);
+
+        // Request ke bahar capture band
+        assertNull(SqlRequestStats.current());
+    }
+
+    @Test
+    void repeatedStatementShapeIsFlaggedAgainstTheHandlersBudget() throws Exception {
+        HandlerMethod handler = new HandlerMethod(clubController,
+                ClubController.class.getMethod("getClubFullDetails", String.class));
+        double flagged = meterRegistry.counter("infonest.sql.repeated", "handler", "ClubController#getClubFullDetails").count();
+        double overBudget = meterRegistry.counter("infonest.sql.budget.exceeded", "handler", "ClubController#getClubFullDetails").count();
+
+        // Loop mein alag ids - same shape, budget ke maxRepeats (2) se zyada
+        perform("/api/v1/clubs/N1/details", handler, () -> {
+            for (int i = 0; i < 6; i++) {
+                clubRepository.findById("NO_SUCH_CLUB_" + i);
+            }
+        });
+
+        assertEquals(flagged + 1,
+                meterRegistry.counter("infonest.sql.repeated", "handler", "ClubController#getClubFullDetails").count());
+        assertEquals(overBudget + 1,
+                meterRegistry.counter("infonest.sql.budget.exceeded", "handler", "ClubController#getClubFullDetails").count());
+    }
+
+    @Test
+    void shapesIgnoreLiteralsAndInListLength() {
+        assertEquals(SqlRequestStats.shapeOf("select * from events where event_id in (?, ?, ?)"),
+                SqlRequestStats.shapeOf("select *  from events\n where event_id in (?)"));
+        assertEquals("select * from users where email = ? and user_id > ?",
+                SqlRequestStats.shapeOf("select * from users where email = 'a''b@gmail.com' and user_id > 42"));
+    }
+
+    private void perform(String path) throws Exception {
+        perform(path, null, () -> clubRepository.findAll());
+    }
+
+    // Controller ki jagah servlet jo `work` chalata hai; handler diya ho to DispatcherServlet jaisa attribute
+    private void perform(String path, HandlerMethod handler, Runnable work) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+        if (handler != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        }
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                work.run();
+            }
+        };
+        requestMetricsFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+    }
+}
@@ -0,0 +1,113 @@
+package com.infonest.controller;
+
+import com.infonest.config.QueryBudgetAssert;
+import com.infonest.dto.ClubDetailsResponse;
+import com.infonest.model.Club;
+import com.infonest.model.User;
+import com.infonest.repository.ClubRepository;
+import com.infonest.repository.UserRepository;
+import com.infonest.support.RegistrationFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ClubControllerTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private ClubController clubController;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void clubDetailsStatementCountDoesNotGrowWithEvents() {
+        seedClub("SMALL_CLUB", 1);
+        seedClub("LARGE_CLUB", 80);
+
+        long smallClubStatements = statementsFor("SMALL_CLUB");
+        long largeClubStatements = statementsFor("LARGE_CLUB");
+
+        assertEquals(smallClubStatements, largeClubStatements);
+    }
+
+    @Test
+    void clubDetailsStaysWithinQueryBudget() {
+        seedClub("BUDGET_CLUB", 12);
+
+        ClubDetailsResponse details = QueryBudgetAssert.assertWithinBudget(ClubController.class, "getClubFullDetails",
+                () -> clubController.getClubFullDetails("BUDGET_CLUB").getBody());
+
+        assertEquals(12, details.getEvents().size());
+    }
+
+    @Test
+    void clubDetailsReturnsPerEventCounts() {
+        seedClub("COUNT_CLUB", 3);
+
+        ClubDetailsResponse details = clubController.getClubFullDetails("COUNT_CLUB").getBody();
+
+        assertEquals(3, details.getEvents().size());
+        details.getEvents().forEach(event -> assertEquals(2, event.getRegCount()));
+    }
+
+    @Test
+    void clubDetailsFacultyOmitsPasswordHash() {
+        seedClub("FACULTY_CLUB", 1);
+        User faculty = new User();
+        faculty.setFirstName("Club");
+        faculty.setLastName("Head");
+        faculty.setEmail("club-head@gmail.com");
+        faculty.setRole("FACULTY");
+        faculty.setClubId("FACULTY_CLUB");
+        faculty.setPassword("$2a$10$notARealHashButStoredAsOne");
+        userRepository.save(faculty);
+
+        ClubDetailsResponse details = clubController.getClubFullDetails("FACULTY_CLUB").getBody();
+
+        assertEquals(1, details.getFaculty().size());
+        assertEquals("club-head@gmail.com", details.getFaculty().get(0).getEmail());
+        String json = jsonMapper.writeValueAsString(details);
+        assertFalse(json.contains("password"));
+        assertFalse(jsonMapper.writeValueAsString(faculty).contains("password"));
+    }
+
+    private long statementsFor(String clubId) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        clubController.getClubFullDetails(clubId);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedClub(String clubId, int eventCount) {
+        clubRepository.save(new Club(clubId, clubId + " name", null));
+        for (int i = 0; i < eventCount; i++) {
+            Long eventId = fixtures.event(clubId, clubId + " event " + i, null);
+
+            for (long userId = 1; userId <= 2; userId++) {
+                fixtures.register(eventId, userId);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.infonest.controller;
+
+import com.infonest.repository.EventRepository;
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventControllerTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private EventController eventController;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void publicListingNeverReturnsHiddenEvents() {
+        Long visible = fixtures.event("PUBLIC_LIST_CLUB");
+        Long hidden = fixtures.event("PUBLIC_LIST_CLUB");
+        eventRepository.findById(hidden).ifPresent(event -> {
+            event.setHidden(true);
+            eventRepository.save(event);
+        });
+
+        List<Long> ids = eventController.getAllEvents("eventId").stream()
+                .map(item -> jsonMapper.valueToTree(item).get("eventId").asLong())
+                .toList();
+
+        assertTrue(ids.contains(visible));
+        assertFalse(ids.contains(hidden));
+    }
+}
@@ -0,0 +1,167 @@
+package com.infonest.load;
+
+import com.infonest.config.JwtUtils;
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import com.infonest.service.EventStatsReconciler;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Poora app asli HTTP par, production MySQL ki jagah H2 (MySQL mode) ke against, LoadDataSeeder ke
+ * synthetic data ke saath (default: 20 clubs, 20k events, 50k users, 1M registrations). Scenarios:
+ * ek event par registration rush, faculty/student dashboard polling aur login storm.
+ * Har endpoint ka p50/p99/throughput log mein aur LoadReport CSV mein.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+// Saari requests ek hi IP se - auth rate limits yahan naap nahi rahe
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-e2e;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=30",
+        "infonest.auth.rate.ip.capacity=1000000", "infonest.auth.rate.ip.per-minute=1000000",
+        "infonest.auth.rate.email.capacity=1000000", "infonest.auth.rate.email.per-minute=1000000"
+})
+class EndToEndLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EndToEndLoadTest.class);
+
+    private static final String PASSWORD = "Load@12345";
+    private static final int RUSH_CAPACITY = 200;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EventStatsReconciler eventStatsReconciler;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private final LoadDriver driver = new LoadDriver(LoadDriver.concurrency());
+
+    private LoadDataSeeder.Sizes sizes;
+    private long firstUserId;
+
+    @BeforeAll
+    void seed() {
+        sizes = LoadDataSeeder.Sizes.fromSystemProperties();
+        long started = System.nanoTime();
+        new LoadDataSeeder(jdbcTemplate).seed(sizes, passwordEncoder.encode(PASSWORD));
+        eventStatsReconciler.reconcileAll();
+        firstUserId = jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE email = ?", Long.class,
+                LoadDataSeeder.email(0));
+        log.info("Seeded {} in {} s", sizes, (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    @Test
+    void registrationRushOnOneEvent() throws Exception {
+        Event hot = new Event();
+        hot.setClubId(LoadDataSeeder.clubId(0));
+        hot.setEventName("Load rush event");
+        hot.setEventDate(LocalDate.now().plusDays(7));
+        hot.setCapacity(RUSH_CAPACITY);
+        Long eventId = eventRepository.save(hot).getEventId();
+
+        // Har user ek hi baar - capacity se zyada waitlist mein jaate hain
+        int requests = Math.min(LoadDriver.requests(), sizes.users());
+        List<LoadResult> results = driver.runByEndpoint("rush", requests, i -> {
+            String token = jwtUtils.generateToken(LoadDataSeeder.email(i), "STUDENT", null);
+            String body = "{\"eventId\":" + eventId + ",\"userId\":" + (firstUserId + i) + "}";
+            return post("/api/v1/student/register", body)
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+        }, i -> "POST /student/register");
+        report(results);
+
+        Integer seatsTaken = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM registrations WHERE event_id = ? AND status IN ('APPLIED', 'APPROVED')",
+                Integer.class, eventId);
+        assertTrue(seatsTaken <= RUSH_CAPACITY);
+    }
+
+    @Test
+    void dashboardPolling() throws Exception {
+        List<String> facultyTokens = IntStream.range(0, sizes.clubs())
+                .mapToObj(c -> jwtUtils.generateToken("faculty-" + c + "@banasthali.in", "FACULTY", LoadDataSeeder.clubId(c)))
+                .toList();
+        String studentToken = jwtUtils.generateToken(LoadDataSeeder.email(0), "STUDENT", null);
+
+        List<LoadResult> results = driver.runByEndpoint("dashboard", LoadDriver.requests(), i -> {
+            int club = i % sizes.clubs();
+            return switch (i % 4) {
+                case 0 -> get("/api/v1/faculty/submissions/" + LoadDataSeeder.clubId(club) + "/page?size=50",
+                        facultyTokens.get(club));
+                case 1 -> get("/api/v1/faculty/my-events", facultyTokens.get(club));
+                case 2 -> get("/api/v1/events/upcoming", null);
+                default -> get("/api/v1/student/my-registrations/" + (firstUserId + i % sizes.users()), studentToken);
+            };
+        }, i -> switch (i % 4) {
+            case 0 -> "GET /faculty/submissions/{clubId}/page";
+            case 1 -> "GET /faculty/my-events";
+            case 2 -> "GET /events/upcoming";
+            default -> "GET /student/my-registrations/{userId}";
+        });
+        report(results);
+    }
+
+    @Test
+    void loginStorm() throws Exception {
+        // BCrypt CPU-bound hai - kam requests. Pool bhara ho to 429 (shed) aana sahi hai, error nahi
+        int requests = Math.max(LoadDriver.requests() / 4, 1);
+        List<LoadResult> results = driver.runByEndpoint("login", requests, i -> {
+            String body = "{\"email\":\"" + LoadDataSeeder.email(i % sizes.users()) + "\",\"password\":\"" + PASSWORD + "\"}";
+            return post("/api/v1/auth/login", body).build();
+        }, i -> "POST /auth/login");
+        report(results);
+    }
+
+    private void report(List<LoadResult> results) {
+        results.forEach(result -> log.info(result.summary()));
+        LoadReport.append(results);
+        results.forEach(result -> assertEquals(0, result.errors(), result.scenario()));
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+}
@@ -0,0 +1,148 @@
+package com.infonest.load;
+
+import com.infonest.config.JwtUtils;
+import com.infonest.model.Event;
+import com.infonest.model.User;
+import com.infonest.repository.EventRepository;
+import com.infonest.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Same scenarios dono execution modes (platform vs virtual threads) ke against. Subclasses sirf config badalti hain;
+ * summary lines log mein aati hain taaki dono runs side by side compare ho sakein.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+// Saari requests ek hi IP/kuch emails se aati hain - auth rate limits yahan naap nahi rahe
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "infonest.auth.rate.ip.capacity=1000000", "infonest.auth.rate.ip.per-minute=1000000",
+        "infonest.auth.rate.email.capacity=1000000", "infonest.auth.rate.email.per-minute=1000000"
+})
+abstract class ExecutionModeLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeLoadTest.class);
+
+    private static final int USERS = 200;
+    private static final String PASSWORD = "Load@12345";
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private final LoadDriver driver = new LoadDriver(LoadDriver.concurrency());
+
+    private List<User> users;
+
+    protected abstract String mode();
+
+    @BeforeEach
+    void seedUsers() {
+        if (users != null) {
+            return;
+        }
+        // BCrypt ek hi baar - sab users ka same hash, seeding tez rehti hai
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<User> seeded = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setFirstName("Load");
+            user.setLastName("User" + i);
+            user.setEmail("load-" + mode() + "-" + i + "@gmail.com");
+            user.setPassword(hash);
+            user.setRole("STUDENT");
+            seeded.add(user);
+        }
+        users = userRepository.saveAll(seeded);
+    }
+
+    @Test
+    void upcomingEvents() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            saveEvent("Upcoming " + i);
+        }
+        LoadResult result = driver.run(mode() + " upcoming", LoadDriver.requests(),
+                i -> get("/api/v1/events/upcoming"));
+        log.info(result.summary());
+        assertEquals(0, result.errors());
+    }
+
+    @Test
+    void register() throws Exception {
+        int requests = LoadDriver.requests();
+        List<Long> eventIds = new ArrayList<>();
+        for (int e = 0; e * USERS < requests; e++) {
+            eventIds.add(saveEvent("Register " + e));
+        }
+        List<String> tokens = users.stream()
+                .map(user -> jwtUtils.generateToken(user.getEmail(), user.getRole(), null))
+                .toList();
+
+        // Har request alag (user, event) - sab naye registrations
+        LoadResult result = driver.run(mode() + " register", requests, i -> {
+            User user = users.get(i % USERS);
+            String body = "{\"eventId\":" + eventIds.get(i / USERS) + ",\"userId\":" + user.getUserId() + "}";
+            return post("/api/v1/student/register", body)
+                    .header("Authorization", "Bearer " + tokens.get(i % USERS))
+                    .build();
+        });
+        log.info(result.summary());
+        assertEquals(0, result.errors());
+    }
+
+    @Test
+    void login() throws Exception {
+        // BCrypt CPU-bound hai - kam requests. Pool bhara ho to 429 (shed) aana sahi hai, error nahi
+        LoadResult result = driver.run(mode() + " login", Math.max(LoadDriver.requests() / 4, 1), i -> {
+            String body = "{\"email\":\"" + users.get(i % USERS).getEmail() + "\",\"password\":\"" + PASSWORD + "\"}";
+            return post("/api/v1/auth/login", body).build();
+        });
+        log.info(result.summary());
+        assertEquals(0, result.errors());
+    }
+
+    private Long saveEvent(String name) {
+        Event event = new Event();
+        event.setClubId("LOAD_CLUB");
+        event.setEventName(name);
+        event.setEventDate(LocalDate.now().plusDays(14));
+        return eventRepository.save(event).getEventId();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+}
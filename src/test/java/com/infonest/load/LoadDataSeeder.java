@@ -0,0 +1,103 @@
+package com.infonest.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load tests ke liye synthetic data, seedha JDBC batch inserts se (JPA se millions rows bahut dheeme).
+ * Sizes system properties se: -Dload.seed.clubs / events / users / registrations.
+ *
+ * Har club ke events, har event ke registrations round-robin users se - (user, event) unique rehta hai
+ * jab tak registrations <= events * users. event_stats baad mein EventStatsReconciler se bhare jaate hain.
+ */
+public final class LoadDataSeeder {
+
+    private static final int BATCH = 1000;
+    private static final String[] STATUSES = { "APPLIED", "APPLIED", "APPLIED", "APPROVED", "REJECTED", "WAITLISTED" };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LoadDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record Sizes(int clubs, int events, int users, int registrations) {
+
+        public static Sizes fromSystemProperties() {
+            return new Sizes(Integer.getInteger("load.seed.clubs", 20),
+                    Integer.getInteger("load.seed.events", 20_000),
+                    Integer.getInteger("load.seed.users", 50_000),
+                    Integer.getInteger("load.seed.registrations", 1_000_000));
+        }
+    }
+
+    public static String clubId(int club) {
+        return "LOAD_CLUB_" + club;
+    }
+
+    public static String email(int user) {
+        return "load-user-" + user + "@gmail.com";
+    }
+
+    /**
+     * @param passwordHash sab users ka same BCrypt hash (seeding mein BCrypt ek hi baar)
+     */
+    public void seed(Sizes sizes, String passwordHash) {
+        List<Object[]> rows = new ArrayList<>(BATCH);
+
+        for (int c = 0; c < sizes.clubs(); c++) {
+            rows.add(new Object[] { clubId(c), "Load club " + c, "Synthetic club for load tests" });
+        }
+        flush("INSERT INTO clubs (club_id, club_name, description) VALUES (?, ?, ?)", rows);
+
+        LocalDate today = LocalDate.now();
+        String insertEvent = "INSERT INTO events (club_id, event_name, description, event_date, deadline, capacity, hidden) "
+                + "VALUES (?, ?, ?, ?, ?, ?, false)";
+        for (int e = 0; e < sizes.events(); e++) {
+            // Kuch events beet chuke, zyada aage ke - upcoming listings realistic rahein
+            LocalDate date = today.plusDays(e % 120 - 20);
+            rows.add(new Object[] { clubId(e % sizes.clubs()), "Load event " + e, "Synthetic event " + e,
+                    Date.valueOf(date), Date.valueOf(date.minusDays(2)), e % 4 == 0 ? null : 100 + e % 400 });
+            flushIfFull(insertEvent, rows);
+        }
+        flush(insertEvent, rows);
+
+        String insertUser = "INSERT INTO users (first_name, last_name, email, password, role, club_id) VALUES (?, ?, ?, ?, ?, ?)";
+        for (int u = 0; u < sizes.users(); u++) {
+            rows.add(new Object[] { "Load", "User" + u, email(u), passwordHash, "STUDENT", null });
+            flushIfFull(insertUser, rows);
+        }
+        flush(insertUser, rows);
+
+        long firstEventId = jdbcTemplate.queryForObject("SELECT MIN(event_id) FROM events WHERE event_name LIKE 'Load event %'", Long.class);
+        long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(user_id) FROM users WHERE email LIKE 'load-user-%'", Long.class);
+        String insertRegistration = "INSERT INTO registrations (event_id, user_id, status, submission_date) VALUES (?, ?, ?, ?)";
+        Timestamp submitted = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+        for (int r = 0; r < sizes.registrations(); r++) {
+            int event = r % sizes.events();
+            int user = (r / sizes.events()) % sizes.users();
+            rows.add(new Object[] { firstEventId + event, firstUserId + user, STATUSES[r % STATUSES.length], submitted });
+            flushIfFull(insertRegistration, rows);
+        }
+        flush(insertRegistration, rows);
+    }
+
+    private void flushIfFull(String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH) {
+            flush(sql, rows);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
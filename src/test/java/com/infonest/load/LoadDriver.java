@@ -0,0 +1,125 @@
+package com.infonest.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Chhota closed-loop HTTP load generator: `concurrency` workers milkar `requests` requests bhejte hain,
+ * har worker pichla response aane ke baad hi agla bhejta hai. 429/503 = shed, baaki status >= 400 ya exception = error.
+ */
+public final class LoadDriver {
+
+    private static final byte ERROR = 1;
+    private static final byte SHED = 2;
+
+    private final HttpClient client;
+    private final int concurrency;
+
+    public LoadDriver(int concurrency) {
+        this.concurrency = concurrency;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, concurrency / 4)))
+                .build();
+    }
+
+    public static int concurrency() {
+        return Integer.getInteger("load.concurrency", 200);
+    }
+
+    public static int requests() {
+        return Integer.getInteger("load.requests", 4000);
+    }
+
+    /**
+     * @param requestFor request index -> HTTP request
+     */
+    public LoadResult run(String scenario, int requests, IntFunction<HttpRequest> requestFor) throws InterruptedException {
+        return runByEndpoint(scenario, requests, requestFor, i -> scenario).get(0);
+    }
+
+    /**
+     * Mixed scenario (jaise dashboard polling): har request ka endpoint label, aur har label ka alag result
+     * (pehli baar dikhne ke order mein). Throughput poore run ke elapsed time par hai.
+     *
+     * @param endpointFor request index -> endpoint label (path template, ids ke bina)
+     */
+    public List<LoadResult> runByEndpoint(String scenario, int requests, IntFunction<HttpRequest> requestFor,
+            IntFunction<String> endpointFor) throws InterruptedException {
+        long[] latencies = new long[requests];
+        byte[] outcomes = new byte[requests];
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        for (int w = 0; w < concurrency; w++) {
+            workers.execute(() -> {
+                try {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(requestFor.apply(i), HttpResponse.BodyHandlers.discarding());
+                            int status = response.statusCode();
+                            if (status == 429 || status == 503) {
+                                outcomes[i] = SHED;
+                            } else if (status >= 400) {
+                                outcomes[i] = ERROR;
+                            }
+                        } catch (Exception e) {
+                            outcomes[i] = ERROR;
+                        }
+                        latencies[i] = System.nanoTime() - sent;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+
+        Map<String, List<Integer>> byEndpoint = new LinkedHashMap<>();
+        for (int i = 0; i < requests; i++) {
+            byEndpoint.computeIfAbsent(endpointFor.apply(i), label -> new ArrayList<>()).add(i);
+        }
+        List<LoadResult> results = new ArrayList<>(byEndpoint.size());
+        byEndpoint.forEach((label, indexes) -> {
+            long[] sorted = new long[indexes.size()];
+            int errors = 0;
+            int shed = 0;
+            for (int k = 0; k < sorted.length; k++) {
+                int i = indexes.get(k);
+                sorted[k] = latencies[i];
+                errors += outcomes[i] == ERROR ? 1 : 0;
+                shed += outcomes[i] == SHED ? 1 : 0;
+            }
+            Arrays.sort(sorted);
+            String name = label.equals(scenario) ? scenario : scenario + " " + label;
+            results.add(new LoadResult(name, sorted.length, errors, shed, elapsedMs,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6));
+        });
+        return results;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,45 @@
+package com.infonest.load;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Load results ko CSV mein append karta hai (-Dload.report, default target/load-report.csv), taaki
+ * alag runs / branches ke numbers baad mein compare ho sakein. Header sirf nayi file par.
+ */
+public final class LoadReport {
+
+    private static final String HEADER = "timestamp,scenario,requests,errors,shed,elapsed_ms,throughput_rps,p50_ms,p99_ms,max_ms";
+
+    private LoadReport() {
+    }
+
+    public static synchronized void append(List<LoadResult> results) {
+        Path file = Path.of(System.getProperty("load.report", "target/load-report.csv"));
+        StringBuilder lines = new StringBuilder();
+        String now = LocalDateTime.now().withNano(0).toString();
+        for (LoadResult result : results) {
+            lines.append(String.format(Locale.ROOT, "%s,\"%s\",%d,%d,%d,%d,%d,%.2f,%.2f,%.2f%n", now,
+                    result.scenario(), result.requests(), result.errors(), result.shed(), result.elapsedMs(),
+                    result.throughput(), result.p50Ms(), result.p99Ms(), result.maxMs()));
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.notExists(file)) {
+                lines.insert(0, HEADER + System.lineSeparator());
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
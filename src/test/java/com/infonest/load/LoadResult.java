@@ -0,0 +1,17 @@
+package com.infonest.load;
+
+/**
+ * Ek load scenario ka nateeja. Latencies milliseconds mein; shed = 429/503 (server ne jaan boojh kar mana kiya).
+ */
+public record LoadResult(String scenario, int requests, int errors, int shed, long elapsedMs,
+        double p50Ms, double p99Ms, double maxMs) {
+
+    public long throughput() {
+        return requests * 1000L / Math.max(elapsedMs, 1);
+    }
+
+    public String summary() {
+        return String.format("%-48s %6d req  %5d err  %5d shed  %7d req/s  p50 %7.1f ms  p99 %7.1f ms  max %7.1f ms",
+                scenario, requests, errors, shed, throughput(), p50Ms, p99Ms, maxMs);
+    }
+}
@@ -0,0 +1,18 @@
+package com.infonest.load;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+// Default mode: Tomcat platform-thread pool. Pool size virtual mode jaisa, taaki farq sirf threads ka ho
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-platform;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=30"
+})
+class PlatformThreadLoadTest extends ExecutionModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,17 @@
+package com.infonest.load;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+// application-virtual.properties ke saath (Java 21+ JDK par hi virtual threads milte hain)
+@ActiveProfiles({ "test", "virtual" })
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-virtual;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"
+})
+class VirtualThreadLoadTest extends ExecutionModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
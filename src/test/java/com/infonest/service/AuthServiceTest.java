@@ -0,0 +1,69 @@
+package com.infonest.service;
+
+import com.infonest.dto.AuthResponse;
+import com.infonest.dto.LoginRequest;
+import com.infonest.model.User;
+import com.infonest.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private AuthRateLimiter authRateLimiter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void loginRehashesPasswordStoredWithOlderCost() {
+        User user = new User();
+        user.setFirstName("Old");
+        user.setLastName("Hash");
+        user.setEmail("old-hash@gmail.com");
+        user.setRole("STUDENT");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("Secret@123"));
+        userRepository.save(user);
+
+        LoginRequest request = new LoginRequest();
+        request.setEmail("old-hash@gmail.com");
+        request.setPassword("Secret@123");
+        AuthResponse response = authService.login(request);
+        assertNotNull(response.getToken());
+
+        String stored = userRepository.findByEmail("old-hash@gmail.com").orElseThrow().getPassword();
+        assertTrue(stored.startsWith("$2a$10$"));
+        assertFalse(passwordHashingService.needsRehash(stored));
+        assertTrue(passwordHashingService.matches("Secret@123", stored));
+    }
+
+    @Test
+    void emailBucketRejectsBurstBeyondCapacity() {
+        // Default email bucket: 10 ki burst
+        for (int i = 0; i < 10; i++) {
+            authRateLimiter.check("10.0.0." + i, "storm@gmail.com");
+        }
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> authRateLimiter.check("10.0.1.1", "STORM@gmail.com"));
+        assertTrue(e.getRetryAfterSeconds() >= 1);
+        // Doosre email ka bucket alag hai
+        assertDoesNotThrow(() -> authRateLimiter.check("10.0.1.2", "someone-else@gmail.com"));
+    }
+}
@@ -0,0 +1,184 @@
+package com.infonest.service;
+
+import com.infonest.dto.BulkStatusOutcome;
+import com.infonest.dto.BulkStatusRequest;
+import com.infonest.dto.BulkStatusResult;
+import com.infonest.model.Event;
+import com.infonest.model.EventStats;
+import com.infonest.repository.EventRepository;
+import com.infonest.repository.EventStatsRepository;
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkStatusUpdateTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Autowired
+    private SeatAllocator seatAllocator;
+
+    @Test
+    void bulkRejectReportsPerIdOutcomesAndRefillsSeatsFromWaitlist() {
+        Long eventId = fixtures.event("BULK_CLUB", 2);
+        Long seatA = fixtures.register(eventId, 9001L);
+        Long seatB = fixtures.register(eventId, 9002L);
+        Long waitA = fixtures.register(eventId, 9003L);
+        Long waitB = fixtures.register(eventId, 9004L);
+        Long foreign = fixtures.register(fixtures.event("OTHER_BULK_CLUB", null), 9005L);
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(waitA));
+
+        BulkStatusResult result = registrationService.bulkUpdateStatus("BULK_CLUB",
+                request(List.of(seatA, seatB, foreign, -1L, seatA), null, null, "rejected"));
+
+        assertEquals(2, result.getUpdated());
+        assertEquals(List.of(
+                new BulkStatusOutcome(seatA, "UPDATED"),
+                new BulkStatusOutcome(seatB, "UPDATED"),
+                new BulkStatusOutcome(foreign, "FORBIDDEN"),
+                new BulkStatusOutcome(-1L, "NOT_FOUND")), result.getOutcomes());
+        assertEquals(EventStatsService.REJECTED, fixtures.statusOf(seatA));
+        assertEquals(EventStatsService.APPLIED, fixtures.statusOf(foreign));
+
+        // Dono khaali seats waitlist se bhari
+        assertEquals(EventStatsService.APPLIED, fixtures.statusOf(waitA));
+        assertEquals(EventStatsService.APPLIED, fixtures.statusOf(waitB));
+        EventStats stats = eventStatsRepository.findById(eventId).orElseThrow();
+        assertEquals(2, stats.getRejectedCount());
+        assertEquals(0, stats.getWaitlistedCount());
+        assertEquals(2, stats.getSeatsTaken());
+
+        BulkStatusResult again = registrationService.bulkUpdateStatus("BULK_CLUB",
+                request(List.of(seatA), null, null, "REJECTED"));
+        assertEquals(0, again.getUpdated());
+        assertEquals("UNCHANGED", again.getOutcomes().get(0).getOutcome());
+    }
+
+    @Test
+    void filterSelectsOnlyOwnEventsMatchingTheFromStatus() {
+        Long eventId = fixtures.event("FILTER_BULK_CLUB", null);
+        Long first = fixtures.register(eventId, 9101L);
+        Long second = fixtures.register(eventId, 9102L);
+        Long rejected = fixtures.register(eventId, 9103L);
+        registrationService.updateStatus(rejected, EventStatsService.REJECTED);
+
+        BulkStatusResult result = registrationService.bulkUpdateStatus("FILTER_BULK_CLUB",
+                request(null, eventId, "APPLIED", "APPROVED"));
+
+        assertEquals(2, result.getUpdated());
+        assertEquals(EventStatsService.APPROVED, fixtures.statusOf(first));
+        assertEquals(EventStatsService.APPROVED, fixtures.statusOf(second));
+        assertEquals(EventStatsService.REJECTED, fixtures.statusOf(rejected));
+        EventStats stats = eventStatsRepository.findById(eventId).orElseThrow();
+        assertEquals(0, stats.getAppliedCount());
+        assertEquals(2, stats.getApprovedCount());
+
+        // Doosre club ka faculty is event ko filter se nahi chhoo sakta
+        assertEquals(0, registrationService.bulkUpdateStatus("SOMEONE_ELSE",
+                request(null, eventId, null, "REJECTED")).getUpdated());
+        assertThrows(IllegalArgumentException.class, () -> registrationService.bulkUpdateStatus("FILTER_BULK_CLUB",
+                request(List.of(first), null, null, "DELETED")));
+    }
+
+    @Test
+    void bulkApproveFromWaitlistFillsOnlyFreeSeats() {
+        Long eventId = fixtures.event("FULL_BULK_CLUB", 2);
+        Long seatA = fixtures.register(eventId, 9201L);
+        Long seatB = fixtures.register(eventId, 9202L);
+        Long waitA = fixtures.register(eventId, 9203L);
+        Long waitB = fixtures.register(eventId, 9204L);
+        Long waitC = fixtures.register(eventId, 9205L);
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(waitA));
+        assertEquals(EventStatsService.APPLIED, fixtures.statusOf(seatB));
+
+        // Capacity ek badhi - ab sirf ek seat khaali hai
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        event.setCapacity(3);
+        eventRepository.save(event);
+        seatAllocator.evict(eventId);
+
+        BulkStatusResult result = registrationService.bulkUpdateStatus("FULL_BULK_CLUB",
+                request(List.of(waitA, waitB, seatA, waitC), null, null, "APPROVED"));
+
+        // Ek hi seat bachi thi: waitA ko mili, seatA pehle se seat par tha
+        assertEquals(2, result.getUpdated());
+        assertEquals(List.of(
+                new BulkStatusOutcome(waitA, "UPDATED"),
+                new BulkStatusOutcome(waitB, "FULL"),
+                new BulkStatusOutcome(seatA, "UPDATED"),
+                new BulkStatusOutcome(waitC, "FULL")), result.getOutcomes());
+        assertEquals(EventStatsService.APPROVED, fixtures.statusOf(waitA));
+        assertEquals(EventStatsService.APPROVED, fixtures.statusOf(seatA));
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(waitB));
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(waitC));
+
+        EventStats stats = eventStatsRepository.findById(eventId).orElseThrow();
+        assertEquals(3, stats.getSeatsTaken());
+        assertEquals(2, stats.getApprovedCount());
+        assertEquals(1, stats.getAppliedCount());
+        assertEquals(2, stats.getWaitlistedCount());
+
+        // Event ab full - filter se poori waitlist approve karne par koi nahi badalta
+        BulkStatusResult none = registrationService.bulkUpdateStatus("FULL_BULK_CLUB",
+                request(null, eventId, "WAITLISTED", "APPROVED"));
+        assertEquals(0, none.getUpdated());
+        none.getOutcomes().forEach(outcome -> assertEquals("FULL", outcome.getOutcome()));
+        assertEquals(3, eventStatsRepository.findById(eventId).orElseThrow().getSeatsTaken());
+    }
+
+    @Test
+    void demotedRowsStayWaitlistedAndFreedSeatsGoToOthers() {
+        Long eventId = fixtures.event("DEMOTE_BULK_CLUB", 2);
+        Long seatA = fixtures.register(eventId, 9301L);
+        Long seatB = fixtures.register(eventId, 9302L);
+        Long waitA = fixtures.register(eventId, 9303L);
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(waitA));
+
+        BulkStatusResult result = registrationService.bulkUpdateStatus("DEMOTE_BULK_CLUB",
+                request(List.of(seatA, seatB), null, null, "WAITLISTED"));
+
+        // Demote hui rows waitlist ke sabse purane hain, par apni chhodi seat wapas nahi leti
+        assertEquals(2, result.getUpdated());
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(seatA));
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(seatB));
+        assertEquals(EventStatsService.APPLIED, fixtures.statusOf(waitA));
+        EventStats stats = eventStatsRepository.findById(eventId).orElseThrow();
+        assertEquals(1, stats.getSeatsTaken());
+        assertEquals(2, stats.getWaitlistedCount());
+
+        // Single status change bhi: waitA waitlist par, seat agle head (seatA) ko
+        assertEquals(EventStatsService.WAITLISTED,
+                registrationService.updateStatus(waitA, EventStatsService.WAITLISTED).getStatus());
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(waitA));
+        assertEquals(EventStatsService.APPLIED, fixtures.statusOf(seatA));
+        assertEquals(1, eventStatsRepository.findById(eventId).orElseThrow().getSeatsTaken());
+    }
+
+    private static BulkStatusRequest request(List<Long> regIds, Long eventId, String fromStatus, String status) {
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setRegIds(regIds);
+        request.setEventId(eventId);
+        request.setFromStatus(fromStatus);
+        request.setStatus(status);
+        return request;
+    }
+}
@@ -0,0 +1,66 @@
+package com.infonest.service;
+
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogServiceTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private CatalogRevisions catalogRevisions;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void loadThatRacesAWriteCannotLandUnderTheNewRevision() {
+        fixtures.event("CATALOG_RACE_CLUB");
+        long before = catalogRevisions.clubEventsRevision("CATALOG_RACE_CLUB");
+        // Write se pehle shuru hua load - purani list
+        List<Event> stale = eventRepository.findByClubIdAndHiddenFalseOrderByEventDateAsc("CATALOG_RACE_CLUB");
+
+        fixtures.event("CATALOG_RACE_CLUB");
+        catalogService.onCatalogChanged(CatalogChangedEvent.events("CATALOG_RACE_CLUB"));
+        // Load ab khatam hua aur evict ke baad apna result cache mein daala
+        cacheManager.getCache(CatalogService.CLUB_EVENTS).put("CATALOG_RACE_CLUB:" + before, stale);
+
+        long after = catalogRevisions.clubEventsRevision("CATALOG_RACE_CLUB");
+        assertNotEquals(before, after);
+        assertNotEquals(catalogRevisions.clubEventsEtag(before), catalogRevisions.clubEventsEtag(after));
+        assertEquals(1, catalogService.getVisibleEventsByClub("CATALOG_RACE_CLUB", before).size());
+        assertEquals(2, catalogService.getVisibleEventsByClub("CATALOG_RACE_CLUB", after).size());
+    }
+
+    @Test
+    void changeEvictsTheEntriesOfThePreviousRevision() {
+        fixtures.event("CATALOG_EVICT_CLUB");
+        long before = catalogRevisions.clubEventsRevision("CATALOG_EVICT_CLUB");
+        assertEquals(1, catalogService.getVisibleEventsByClub("CATALOG_EVICT_CLUB", before).size());
+
+        catalogService.onCatalogChanged(CatalogChangedEvent.events("CATALOG_EVICT_CLUB"));
+
+        assertNull(cacheManager.getCache(CatalogService.CLUB_EVENTS).get("CATALOG_EVICT_CLUB:" + before));
+    }
+}
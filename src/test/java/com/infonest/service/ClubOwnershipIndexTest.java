@@ -0,0 +1,129 @@
+package com.infonest.service;
+
+import com.infonest.model.EventFormField;
+import com.infonest.repository.EventRepository;
+import com.infonest.support.RegistrationFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ClubOwnershipIndexTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private ClubOwnershipIndex clubOwnershipIndex;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private FormAnswerService formAnswerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void missFallsBackToDatabaseThenServesFromIndex() {
+        Long eventId = fixtures.event("AUTHZ_CLUB");
+
+        double misses = lookups("miss");
+        assertTrue(clubOwnershipIndex.ownsEvent("AUTHZ_CLUB", eventId));
+        assertEquals(misses + 1, lookups("miss"));
+
+        double hits = lookups("hit");
+        assertFalse(clubOwnershipIndex.ownsEvent("OTHER_AUTHZ_CLUB", eventId));
+        assertFalse(clubOwnershipIndex.ownsEvent(null, eventId));
+        assertEquals(hits + 2, lookups("hit"));
+
+        double absent = lookups("absent");
+        assertNull(clubOwnershipIndex.clubOfEvent(-42L));
+        assertFalse(clubOwnershipIndex.ownsEvent("AUTHZ_CLUB", -42L));
+        assertEquals(absent + 2, lookups("absent"));
+    }
+
+    @Test
+    void deletedEventIsForgotten() {
+        Long eventId = fixtures.event("AUTHZ_DELETED_CLUB");
+        assertTrue(clubOwnershipIndex.ownsEvent("AUTHZ_DELETED_CLUB", eventId));
+
+        eventRepository.deleteById(eventId);
+        clubOwnershipIndex.forgetEvent(eventId);
+        double absent = lookups("absent");
+        assertNull(clubOwnershipIndex.clubOfEvent(eventId));
+        assertFalse(clubOwnershipIndex.ownsEvent("AUTHZ_DELETED_CLUB", eventId));
+        assertEquals(absent + 2, lookups("absent"));
+    }
+
+    @Test
+    void refreshCountsEntriesThatChangedBehindTheIndex() {
+        Long eventId = fixtures.event("AUTHZ_MOVED_CLUB");
+        assertTrue(clubOwnershipIndex.ownsEvent("AUTHZ_MOVED_CLUB", eventId));
+
+        // Index ko bataye bina DB mein club badla
+        jdbcTemplate.update("UPDATE events SET club_id = ? WHERE event_id = ?", "AUTHZ_NEW_CLUB", eventId);
+        double stale = meterRegistry.counter("infonest.authz.index.stale").count();
+        clubOwnershipIndex.refresh();
+
+        assertTrue(meterRegistry.counter("infonest.authz.index.stale").count() >= stale + 1);
+        assertTrue(clubOwnershipIndex.ownsEvent("AUTHZ_NEW_CLUB", eventId));
+        assertFalse(clubOwnershipIndex.ownsEvent("AUTHZ_MOVED_CLUB", eventId));
+        assertTrue(meterRegistry.get("infonest.authz.index.size").tag("kind", "events").gauge().value() >= 1);
+    }
+
+    @Test
+    void writesRecheckOwnershipInTheDatabaseWhileTheIndexIsStale() {
+        Long eventId = fixtures.event("AUTHZ_OLD_OWNER");
+        Long regId = fixtures.register(eventId, 9301L);
+        assertTrue(clubOwnershipIndex.ownsEvent("AUTHZ_OLD_OWNER", eventId));
+
+        // Doosre instance par admin ne event naye club ko diya - is index ko abhi pata nahi
+        jdbcTemplate.update("UPDATE events SET club_id = ? WHERE event_id = ?", "AUTHZ_NEW_OWNER", eventId);
+        assertTrue(clubOwnershipIndex.ownsEvent("AUTHZ_OLD_OWNER", eventId));
+
+        assertNull(registrationService.updateStatus(regId, EventStatsService.REJECTED, "AUTHZ_OLD_OWNER"));
+        assertNull(formAnswerService.replaceSchema(eventId, "AUTHZ_OLD_OWNER", List.of(formField("year"))));
+        assertTrue(formAnswerService.getSchema(eventId).isEmpty());
+        assertEquals(0, eventRepository.deleteByEventIdAndClubId(eventId, "AUTHZ_OLD_OWNER"));
+        assertTrue(eventRepository.existsById(eventId));
+
+        assertEquals(EventStatsService.REJECTED,
+                registrationService.updateStatus(regId, EventStatsService.REJECTED, "AUTHZ_NEW_OWNER").getStatus());
+        assertEquals(1, formAnswerService.replaceSchema(eventId, "AUTHZ_NEW_OWNER", List.of(formField("year"))).size());
+        assertEquals(1, eventRepository.deleteByEventIdAndClubId(eventId, "AUTHZ_NEW_OWNER"));
+        assertThrows(NoSuchElementException.class,
+                () -> formAnswerService.replaceSchema(eventId, "AUTHZ_NEW_OWNER", List.of(formField("year"))));
+    }
+
+    private static EventFormField formField(String key) {
+        EventFormField field = new EventFormField();
+        field.setFieldKey(key);
+        field.setType("NUMBER");
+        return field;
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.counter("infonest.authz.lookups", "result", result).count();
+    }
+}
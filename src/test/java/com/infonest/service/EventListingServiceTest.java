@@ -0,0 +1,113 @@
+package com.infonest.service;
+
+import com.infonest.dto.EventFilter;
+import com.infonest.dto.EventPage;
+import com.infonest.dto.EventSummary;
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventListingServiceTest {
+
+    @Autowired
+    private EventListingService eventListingService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void listAllReturnsSummariesWithoutDescriptionByDefault() {
+        seedEvents("LIST_CLUB", 3);
+
+        List<?> events = eventListingService.listAll(new EventFilter("LIST_CLUB", null, null, null), null);
+
+        assertEquals(3, events.size());
+        events.forEach(event -> assertInstanceOf(EventSummary.class, event));
+        JsonNode first = jsonMapper.valueToTree(events.get(0));
+        assertFalse(first.has("description"));
+        assertEquals("LIST_CLUB event 0", first.get("eventName").asString());
+    }
+
+    @Test
+    void fieldsKeepOnlyRequestedProperties() {
+        seedEvents("FIELDS_CLUB", 2);
+
+        List<?> events = eventListingService.listAll(new EventFilter("FIELDS_CLUB", null, null, null),
+                "eventId, eventName,unknown");
+
+        assertEquals(2, events.size());
+        JsonNode first = jsonMapper.valueToTree(events.get(0));
+        assertEquals(Set.of("eventId", "eventName"), Set.copyOf(first.propertyNames()));
+    }
+
+    @Test
+    void descriptionIsLoadedOnlyWhenRequested() {
+        seedEvents("DESC_CLUB", 1);
+
+        List<?> events = eventListingService.listAll(new EventFilter("DESC_CLUB", null, null, null),
+                "eventId,description");
+
+        JsonNode first = jsonMapper.valueToTree(events.get(0));
+        assertEquals(Set.of("eventId", "description"), Set.copyOf(first.propertyNames()));
+        assertEquals("Long description 0", first.get("description").asString());
+    }
+
+    @Test
+    void fieldNamesMatchCaseInsensitively() {
+        seedEvents("CASE_CLUB", 1);
+
+        List<?> events = eventListingService.listAll(new EventFilter("CASE_CLUB", null, null, null),
+                "EventId,DESCRIPTION");
+
+        JsonNode first = jsonMapper.valueToTree(events.get(0));
+        assertEquals(Set.of("eventId", "description"), Set.copyOf(first.propertyNames()));
+        assertEquals("Long description 0", first.get("description").asString());
+    }
+
+    @Test
+    void pageCursorSurvivesSparseFields() {
+        seedEvents("PAGE_FIELDS_CLUB", 3);
+        EventFilter filter = new EventFilter("PAGE_FIELDS_CLUB", null, null, null);
+
+        EventPage<?> first = eventListingService.listEvents(filter, null, 2, "eventName");
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
+
+        EventPage<?> second = eventListingService.listEvents(filter, first.getNextCursor(), 2, "eventName");
+        assertEquals(1, second.getItems().size());
+        JsonNode last = jsonMapper.valueToTree(second.getItems().get(0));
+        assertEquals("PAGE_FIELDS_CLUB event 2", last.get("eventName").asString());
+        assertNull(second.getNextCursor());
+    }
+
+    private void seedEvents(String clubId, int count) {
+        for (int i = 0; i < count; i++) {
+            Event event = new Event();
+            event.setClubId(clubId);
+            event.setEventName(clubId + " event " + i);
+            event.setDescription("Long description " + i);
+            event.setEventDate(LocalDate.now().plusDays(i + 1));
+            eventRepository.save(event);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.infonest.service;
+
+import com.infonest.dto.StatsReconciliationReport;
+import com.infonest.model.EventStats;
+import com.infonest.model.Registration;
+import com.infonest.repository.EventStatsRepository;
+import com.infonest.repository.RegistrationRepository;
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventStatsReconcilerTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private EventStatsReconciler eventStatsReconciler;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Test
+    void countersFollowWritesAndDriftIsRepaired() {
+        Long eventId = fixtures.event("STATS_CLUB");
+
+        Long firstRegId = fixtures.register(eventId, 101L);
+        fixtures.register(eventId, 102L);
+        registrationService.updateStatus(firstRegId, "APPROVED");
+
+        EventStats stats = eventStatsRepository.findById(eventId).orElseThrow();
+        assertEquals(2, stats.getTotalCount());
+        assertEquals(1, stats.getAppliedCount());
+        assertEquals(1, stats.getApprovedCount());
+
+        // Counter ko bypass karke seedha insert = drift
+        Registration sneaky = new Registration();
+        sneaky.setEventId(eventId);
+        sneaky.setUserId(103L);
+        sneaky.setStatus("REJECTED");
+        registrationRepository.save(sneaky);
+
+        StatsReconciliationReport report = eventStatsReconciler.reconcileAll();
+        assertTrue(report.getEventsWithDrift() >= 1);
+
+        EventStats repaired = eventStatsRepository.findById(eventId).orElseThrow();
+        assertEquals(3, repaired.getTotalCount());
+        assertEquals(1, repaired.getRejectedCount());
+    }
+}
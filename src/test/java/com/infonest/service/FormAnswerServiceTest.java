@@ -0,0 +1,119 @@
+package com.infonest.service;
+
+import com.infonest.dto.ApplicantPage;
+import com.infonest.dto.ApplicantSummary;
+import com.infonest.model.EventFormField;
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FormAnswerServiceTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private FormAnswerService formAnswerService;
+
+    @Autowired
+    private FormSubmissionQueue formSubmissionQueue;
+
+    @Test
+    void answersAreBackfilledThenFilteredAndSortedInTheDatabase() {
+        Long eventId = fixtures.event("ANSWERS_CLUB");
+        Long first = submit(eventId, 8001L, "{\"year\":\"1\",\"branch\":\"CSE\"}");
+        submit(eventId, 8002L, "{\"year\":\"2\",\"branch\":\"ECE\"}");
+        Long third = submit(eventId, 8003L, "{\"year\":\"3\",\"branch\":\"CSE\"}");
+        Long fourth = submit(eventId, 8004L, "{\"year\":\"4\",\"branch\":\"ECE\"}");
+        Long fifth = submit(eventId, 8005L, "{\"year\":\"5\",\"branch\":\"CSE\"}");
+        Long noYear = submit(eventId, 8006L, "{\"branch\":\"CSE\"}");
+        formSubmissionQueue.flushAll();
+
+        // Schema baad mein declare hua - purane submissions backfill se searchable
+        formAnswerService.replaceSchema(eventId, "ANSWERS_CLUB", List.of(field("year", "number"), field("branch", "text")));
+
+        assertEquals(List.of(third, fourth, fifth),
+                regIds(formAnswerService.findApplicants(eventId, null, List.of("year:gte:3"), null, null, null)));
+
+        // CSE, year desc, bina year wale sabse last - do-do ke pages mein
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ApplicantPage page = formAnswerService.findApplicants(eventId, null, List.of("branch:eq:CSE"), "year:desc",
+                    cursor, 2);
+            walked.addAll(regIds(page));
+            if (pages == 0) {
+                ApplicantSummary top = page.getItems().get(0);
+                assertEquals("CSE", top.getAnswers().get("branch"));
+                assertEquals("5", top.getAnswers().get("year"));
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        assertEquals(List.of(fifth, third, first, noYear), walked);
+        assertEquals(2, pages);
+    }
+
+    @Test
+    void newSubmissionsAreIndexedOnFlush() {
+        Long eventId = fixtures.event("ANSWERS_CLUB");
+        formAnswerService.replaceSchema(eventId, "ANSWERS_CLUB", List.of(field("team.size", "NUMBER"), field("idea", "TEXT")));
+
+        submit(eventId, 8101L, "{\"team\":{\"size\":2},\"idea\":\"Campus food delivery\"}");
+        Long big = submit(eventId, 8102L, "{\"team\":{\"size\":5},\"idea\":\"Food waste tracker\"}");
+        submit(eventId, 8103L, "{\"team\":{\"size\":6},\"idea\":\"Library seat finder\"}");
+        formSubmissionQueue.flushAll();
+
+        ApplicantPage page = formAnswerService.findApplicants(eventId, "applied",
+                List.of("team.size:gte:4", "idea:contains:food"), null, null, null);
+        assertEquals(List.of(big), regIds(page));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void onlyDeclaredFieldsAndValidFiltersAreAccepted() {
+        Long eventId = fixtures.event("ANSWERS_CLUB");
+        formAnswerService.replaceSchema(eventId, "ANSWERS_CLUB", List.of(field("year", "NUMBER")));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> formAnswerService.findApplicants(eventId, null, List.of("salary:gt:10"), null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> formAnswerService.findApplicants(eventId, null, List.of("year:contains:2"), null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> formAnswerService.findApplicants(eventId, null, List.of("year:gte:two"), null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> formAnswerService.replaceSchema(eventId, "ANSWERS_CLUB", List.of(field("year", "NUMBER"), field("year", "TEXT"))));
+        assertNotNull(formAnswerService.findApplicants(eventId, null, null, "year:asc", null, null));
+    }
+
+    private List<Long> regIds(ApplicantPage page) {
+        return page.getItems().stream().map(ApplicantSummary::getRegId).toList();
+    }
+
+    private Long submit(Long eventId, Long userId, String formData) {
+        Long regId = fixtures.register(eventId, userId);
+        assertNotNull(formSubmissionQueue.offer(regId, formData));
+        return regId;
+    }
+
+    private static EventFormField field(String key, String type) {
+        EventFormField field = new EventFormField();
+        field.setFieldKey(key);
+        field.setLabel(key);
+        field.setType(type);
+        return field;
+    }
+}
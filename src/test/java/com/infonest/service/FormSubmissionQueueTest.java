@@ -0,0 +1,100 @@
+package com.infonest.service;
+
+import com.infonest.model.Registration;
+import com.infonest.repository.RegistrationRepository;
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FormSubmissionQueueTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private FormSubmissionQueue formSubmissionQueue;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @MockitoSpyBean
+    private FormAnswerService formAnswerService;
+
+    @Test
+    void submissionsAreCoalescedAndOnlyTheLatestIsWritten() {
+        Long eventId = fixtures.event("FORMS_CLUB");
+        Long regId = fixtures.register(eventId, 501L);
+
+        String last = null;
+        for (int i = 1; i <= 50; i++) {
+            last = formSubmissionQueue.offer(regId, "{\"attempt\":" + i + "}");
+            assertNotNull(last);
+        }
+        formSubmissionQueue.flushAll();
+
+        assertEquals(FormSubmissionQueue.State.WRITTEN, formSubmissionQueue.status(last).state());
+        assertNull(formSubmissionQueue.status("unknown-submission"));
+
+        Registration stored = registrationRepository.findById(regId).orElseThrow();
+        assertEquals("{\"attempt\":50}", stored.getFormData());
+        assertEquals(eventId, stored.getEventId());
+        assertEquals(EventStatsService.APPLIED, stored.getStatus());
+        assertEquals(0, formSubmissionQueue.depth());
+    }
+
+    @Test
+    void transientFailureIsRetriedInsteadOfDroppingTheBatch() {
+        Long regId = fixtures.register(fixtures.event("RETRY_FORMS_CLUB"), 502L);
+        doThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"))
+                .doCallRealMethod()
+                .when(formAnswerService).index(anyMap());
+
+        String submissionId = formSubmissionQueue.offer(regId, "{\"retry\":true}");
+        formSubmissionQueue.flushAll();
+
+        assertEquals(FormSubmissionQueue.State.WRITTEN, formSubmissionQueue.status(submissionId).state());
+        assertEquals("{\"retry\":true}", registrationRepository.findById(regId).orElseThrow().getFormData());
+    }
+
+    @Test
+    void persistentlyFailingSubmissionIsRecordedWithoutSinkingTheBatch() {
+        Long eventId = fixtures.event("POISON_FORMS_CLUB");
+        Long goodRegId = fixtures.register(eventId, 503L);
+        Long badRegId = fixtures.register(eventId, 504L);
+        doAnswer(invocation -> {
+            Map<Long, String> formData = invocation.getArgument(0);
+            if (formData.containsKey(badRegId)) {
+                throw new IllegalStateException("Poison row");
+            }
+            return invocation.callRealMethod();
+        }).when(formAnswerService).index(anyMap());
+
+        String good = formSubmissionQueue.offer(goodRegId, "{\"ok\":true}");
+        String bad = formSubmissionQueue.offer(badRegId, "{\"ok\":false}");
+        formSubmissionQueue.flushAll();
+        doCallRealMethod().when(formAnswerService).index(anyMap());
+
+        assertEquals(FormSubmissionQueue.State.WRITTEN, formSubmissionQueue.status(good).state());
+        FormSubmissionQueue.SubmissionStatus failed = formSubmissionQueue.status(bad);
+        assertEquals(FormSubmissionQueue.State.FAILED, failed.state());
+        assertEquals("Poison row", failed.error());
+        assertEquals("{\"ok\":true}", registrationRepository.findById(goodRegId).orElseThrow().getFormData());
+        assertNull(registrationRepository.findById(badRegId).orElseThrow().getFormData());
+    }
+}
@@ -0,0 +1,212 @@
+package com.infonest.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveUpdateBusTest {
+
+    @Test
+    void slowSubscriberIsDroppedWithoutDelayingOthers() throws Exception {
+        LiveUpdateBus bus = new LiveUpdateBus(4, 100, 4, 60_000, new SimpleMeterRegistry());
+
+        CountDownLatch fastDone = new CountDownLatch(20);
+        List<Object> fastReceived = new CopyOnWriteArrayList<>();
+        LiveUpdateBus.Subscription fast = bus.subscribe("club:A", new RecordingSink(fastReceived, fastDone, null));
+
+        // Pehla message aate hi hamesha ke liye atak jaata hai
+        CountDownLatch never = new CountDownLatch(1);
+        RecordingSink stuckSink = new RecordingSink(new CopyOnWriteArrayList<>(), null, never);
+        LiveUpdateBus.Subscription stuck = bus.subscribe("club:A", stuckSink);
+
+        List<Object> otherReceived = new CopyOnWriteArrayList<>();
+        bus.subscribe("club:B", new RecordingSink(otherReceived, null, null));
+
+        for (int i = 0; i < 20; i++) {
+            bus.publish("club:A", "registration", i);
+            // Fast subscriber ko saath chalne do - sirf stuck wala peeche rehna chahiye
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (fastReceived.size() <= i && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+
+        assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+        assertEquals(20, fastReceived.size());
+        assertEquals(0, fastReceived.get(0));
+        assertEquals(19, fastReceived.get(19));
+        assertFalse(fast.isClosed());
+
+        assertTrue(stuck.isClosed());
+        // Emitter jaisa: close chalu send ka lock maangta, isliye send lautne ke baad hi
+        assertFalse(stuckSink.closed);
+        assertTrue(otherReceived.isEmpty());
+        assertEquals(2, bus.subscriberCount());
+        never.countDown();
+        assertTrue(stuckSink.awaitClosed());
+    }
+
+    @Test
+    void subscriberLimitIsEnforced() {
+        LiveUpdateBus bus = new LiveUpdateBus(4, 1, 4, 60_000, new SimpleMeterRegistry());
+
+        LiveUpdateBus.Subscription first = bus.subscribe("user:1", new RecordingSink(new CopyOnWriteArrayList<>(), null, null));
+        assertNull(bus.subscribe("user:2", new RecordingSink(new CopyOnWriteArrayList<>(), null, null)));
+
+        bus.unsubscribe(first);
+        assertEquals(0, bus.subscriberCount());
+        assertFalse(bus.hasSubscribers("user:1"));
+    }
+
+    @Test
+    void stuckSinksDoNotStallFanOutAndAreDroppedAfterSendTimeout() throws Exception {
+        LiveUpdateBus bus = new LiveUpdateBus(4, 100, 4, 50, new SimpleMeterRegistry());
+
+        // Pool (4 threads) se kam atke hue clients - baaki thread fast subscriber ko serve karte rehte hain
+        CountDownLatch never = new CountDownLatch(1);
+        CountDownLatch allStuck = new CountDownLatch(3);
+        List<RecordingSink> stuckSinks = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            RecordingSink stuckSink = new RecordingSink(new CopyOnWriteArrayList<>(), allStuck, never);
+            stuckSinks.add(stuckSink);
+            bus.subscribe("club:A", stuckSink);
+        }
+        CountDownLatch fastDone = new CountDownLatch(3);
+        List<Object> fastReceived = new CopyOnWriteArrayList<>();
+        LiveUpdateBus.Subscription fast = bus.subscribe("club:A", new RecordingSink(fastReceived, fastDone, null));
+
+        for (int i = 0; i < 3; i++) {
+            bus.publish("club:A", "registration", i);
+        }
+        assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+        assertTrue(allStuck.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(100);
+        // Scheduler thread atke emitter ke close par nahi rukta
+        assertTimeoutPreemptively(Duration.ofSeconds(2), bus::dropStalled);
+
+        assertFalse(fast.isClosed());
+        assertEquals(1, bus.subscriberCount());
+        stuckSinks.forEach(stuckSink -> assertFalse(stuckSink.closed));
+
+        // Socket write lauta (fail/timeout) - ab drain thread khud close karta hai
+        never.countDown();
+        for (RecordingSink stuckSink : stuckSinks) {
+            assertTrue(stuckSink.awaitClosed());
+        }
+    }
+
+    @Test
+    void publisherDropsASubscriberMidSendWithoutWaitingOnItsLock() throws Exception {
+        LiveUpdateBus bus = new LiveUpdateBus(1, 100, 4, 60_000, new SimpleMeterRegistry());
+        CountDownLatch never = new CountDownLatch(1);
+        CountDownLatch firstSend = new CountDownLatch(1);
+        RecordingSink sink = new RecordingSink(new CopyOnWriteArrayList<>(), firstSend, never);
+        LiveUpdateBus.Subscription subscription = bus.subscribe("club:C", sink);
+
+        bus.publish("club:C", "registration", 0);
+        assertTrue(firstSend.await(5, TimeUnit.SECONDS));
+        // Buffer (1) bhara, agla publish drop karta hai - publisher (after-commit request thread) block nahi hota
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            bus.publish("club:C", "registration", 1);
+            bus.publish("club:C", "registration", 2);
+        });
+        assertTrue(subscription.isClosed());
+
+        never.countDown();
+        assertTrue(sink.awaitClosed());
+        assertEquals(List.of(0), sink.received);
+    }
+
+    @Test
+    void concurrentSubscribeAndUnsubscribeNeverOrphansASubscriber() throws Exception {
+        LiveUpdateBus bus = new LiveUpdateBus(4, 100_000, 4, 60_000, new SimpleMeterRegistry());
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        List<LiveUpdateBus.Subscription> survivors = new CopyOnWriteArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 2000; i++) {
+                    LiveUpdateBus.Subscription subscription = bus.subscribe("user:1",
+                            new RecordingSink(new CopyOnWriteArrayList<>(), null, null));
+                    if (i == 1999) {
+                        survivors.add(subscription);
+                    } else {
+                        bus.unsubscribe(subscription);
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Har bacha hua subscriber topic mein hai aur count sahi hai
+        assertEquals(threads, bus.subscriberCount());
+        assertTrue(bus.hasSubscribers("user:1"));
+        survivors.forEach(bus::unsubscribe);
+        assertEquals(0, bus.subscriberCount());
+        assertFalse(bus.hasSubscribers("user:1"));
+    }
+
+    // SseEmitter jaisa: send aur close ek hi lock par - atke send ke dauraan close bhi atak jaata hai
+    private static final class RecordingSink implements LiveUpdateBus.Sink {
+        private final List<Object> received;
+        private final CountDownLatch onReceive;
+        private final CountDownLatch blockUntil;
+        private final CountDownLatch closedLatch = new CountDownLatch(1);
+        private volatile boolean closed;
+
+        private RecordingSink(List<Object> received, CountDownLatch onReceive, CountDownLatch blockUntil) {
+            this.received = received;
+            this.onReceive = onReceive;
+            this.blockUntil = blockUntil;
+        }
+
+        @Override
+        public synchronized void send(String eventName, Object data) {
+            received.add(data);
+            if (onReceive != null) {
+                onReceive.countDown();
+            }
+            if (blockUntil != null) {
+                try {
+                    blockUntil.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            closed = true;
+            closedLatch.countDown();
+        }
+
+        private boolean awaitClosed() throws InterruptedException {
+            return closedLatch.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.infonest.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Test
+    void rotationIssuesNewTokenAndReuseRevokesTheFamily() {
+        String first = refreshTokenService.issue(7001L);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(first);
+        assertEquals(7001L, rotation.userId());
+        assertNotEquals(first, rotation.refreshToken());
+        RefreshTokenService.Rotation next = refreshTokenService.rotate(rotation.refreshToken());
+
+        // Do kadam purana token dobara = chori ka shak -> poori family revoke (grace sirf turant pichle token ko)
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(first));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(next.refreshToken()));
+    }
+
+    @Test
+    void parallelRefreshWithinGraceGetsTheSameSuccessor() {
+        String first = refreshTokenService.issue(7003L);
+
+        RefreshTokenService.Rotation winner = refreshTokenService.rotate(first);
+        // Doosre tab ne wahi token bheja - wahi successor, family zinda
+        RefreshTokenService.Rotation loser = refreshTokenService.rotate(first);
+        assertEquals(winner, loser);
+
+        RefreshTokenService.Rotation next = refreshTokenService.rotate(winner.refreshToken());
+        assertEquals(7003L, next.userId());
+        assertNotEquals(winner.refreshToken(), next.refreshToken());
+    }
+
+    @Test
+    void logoutRevokesAndUnknownTokensAreRejected() {
+        String token = refreshTokenService.issue(7002L);
+        refreshTokenService.revoke(token);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(token));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("not-a-real-token"));
+    }
+}
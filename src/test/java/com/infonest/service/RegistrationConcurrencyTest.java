@@ -0,0 +1,77 @@
+package com.infonest.service;
+
+import com.infonest.model.Registration;
+import com.infonest.repository.EventStatsRepository;
+import com.infonest.repository.RegistrationRepository;
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RegistrationConcurrencyTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    private static final int ATTEMPTS = 2000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Test
+    void parallelRegistrationsForSamePairCreateExactlyOneRow() throws Exception {
+        Long eventId = fixtures.event("RUSH_CLUB");
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RegistrationOutcome>> results = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            results.add(pool.submit(() -> {
+                Registration registration = new Registration();
+                registration.setEventId(eventId);
+                registration.setUserId(42L);
+                start.await();
+                return registrationService.register(registration);
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        Long regId = null;
+        for (Future<RegistrationOutcome> result : results) {
+            RegistrationOutcome outcome = result.get();
+            if (outcome.created()) {
+                created++;
+            }
+            if (regId == null) {
+                regId = outcome.registration().getRegId();
+            }
+            // Har caller ko wahi ek registration milna chahiye
+            assertEquals(regId, outcome.registration().getRegId());
+        }
+        pool.shutdown();
+
+        assertEquals(1, created);
+        assertEquals(1, registrationRepository.countByEventId(eventId));
+        assertEquals(1, eventStatsRepository.findById(eventId).orElseThrow().getTotalCount());
+    }
+}
@@ -0,0 +1,148 @@
+package com.infonest.service;
+
+import com.infonest.model.EventStats;
+import com.infonest.model.Registration;
+import com.infonest.repository.EventStatsRepository;
+import com.infonest.repository.RegistrationRepository;
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatAllocationLoadTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    private static final Logger log = LoggerFactory.getLogger(SeatAllocationLoadTest.class);
+
+    private static final int CAPACITY = 300;
+    private static final int REGISTRATIONS = 5000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Autowired
+    private SeatAllocator seatAllocator;
+
+    @Test
+    void hotEventIsNeverOversoldAndWaitlistIsPromotedInOrder() throws Exception {
+        Long eventId = fixtures.event("RECRUITMENT_CLUB", CAPACITY);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RegistrationOutcome>> results = new ArrayList<>();
+        for (int i = 0; i < REGISTRATIONS; i++) {
+            long userId = 10_000L + i;
+            results.add(pool.submit(() -> {
+                Registration registration = new Registration();
+                registration.setEventId(eventId);
+                registration.setUserId(userId);
+                start.await();
+                return registrationService.register(registration);
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        int seated = 0;
+        for (Future<RegistrationOutcome> result : results) {
+            if (EventStatsService.APPLIED.equals(result.get().registration().getStatus())) {
+                seated++;
+            }
+        }
+        long elapsedMs = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        pool.shutdown();
+        log.info("{} registrations for one event in {} ms ({} req/s)",
+                REGISTRATIONS, elapsedMs, REGISTRATIONS * 1000L / elapsedMs);
+
+        // Na ek seat zyada, na ek kam
+        assertEquals(CAPACITY, seated);
+        List<Registration> all = registrationRepository.findByEventId(eventId);
+        assertEquals(REGISTRATIONS, all.size());
+        assertEquals(CAPACITY, all.stream().filter(r -> EventStatsService.holdsSeat(r.getStatus())).count());
+
+        EventStats stats = eventStatsRepository.findById(eventId).orElseThrow();
+        assertEquals(CAPACITY, stats.getSeatsTaken());
+        assertEquals(REGISTRATIONS - CAPACITY, stats.getWaitlistedCount());
+
+        // Ek seat reject -> sabse purana waitlisted registration APPLIED
+        Registration seatHolder = all.stream()
+                .filter(r -> EventStatsService.APPLIED.equals(r.getStatus()))
+                .findFirst().orElseThrow();
+        Registration waitlistHead = all.stream()
+                .filter(r -> EventStatsService.WAITLISTED.equals(r.getStatus()))
+                .min(Comparator.comparing(Registration::getRegId)).orElseThrow();
+
+        registrationService.updateStatus(seatHolder.getRegId(), EventStatsService.REJECTED);
+
+        assertEquals(EventStatsService.APPLIED,
+                registrationRepository.findById(waitlistHead.getRegId()).orElseThrow().getStatus());
+        EventStats afterPromotion = eventStatsRepository.findById(eventId).orElseThrow();
+        assertEquals(CAPACITY, afterPromotion.getSeatsTaken());
+        assertEquals(REGISTRATIONS - CAPACITY - 1, afterPromotion.getWaitlistedCount());
+    }
+
+    @Test
+    void approvingWaitlistedRegistrationOnFullEventIsRejected() {
+        Long eventId = fixtures.event("FULL_CLUB", 2);
+
+        Long first = fixtures.register(eventId, 7001L);
+        fixtures.register(eventId, 7002L);
+        Long waitlisted = fixtures.register(eventId, 7003L);
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(waitlisted));
+
+        assertThrows(EventFullException.class,
+                () -> registrationService.updateStatus(waitlisted, EventStatsService.APPROVED));
+        assertEquals(EventStatsService.WAITLISTED, fixtures.statusOf(waitlisted));
+        EventStats full = eventStatsRepository.findById(eventId).orElseThrow();
+        assertEquals(2, full.getSeatsTaken());
+        assertEquals(1, full.getWaitlistedCount());
+
+        // Seat khaali hui -> waitlist head khud APPLIED; ab rejected wala wapas approve nahi ho sakta
+        registrationService.updateStatus(first, EventStatsService.REJECTED);
+        assertEquals(EventStatsService.APPLIED, fixtures.statusOf(waitlisted));
+        assertThrows(EventFullException.class,
+                () -> registrationService.updateStatus(first, EventStatsService.APPROVED));
+        assertEquals(2, eventStatsRepository.findById(eventId).orElseThrow().getSeatsTaken());
+    }
+
+    @Test
+    void releaseAfterEvictGoesBackToTheCounterTheSeatCameFrom() {
+        Long eventId = fixtures.event("RELEASE_CLUB", 1);
+
+        SeatAllocator.Admission stale = seatAllocator.acquire(eventId);
+        assertEquals(SeatAllocator.Kind.SEAT, stale.kind());
+
+        // Claim DB tak pahuncha nahi, isliye reload hua counter wahi seat dobara deta hai
+        seatAllocator.evict(eventId);
+        assertEquals(SeatAllocator.Kind.SEAT, seatAllocator.acquire(eventId).kind());
+
+        // Purani admission ka release naye counter mein extra seat nahi banata
+        seatAllocator.release(stale);
+        assertEquals(SeatAllocator.Kind.FULL, seatAllocator.acquire(eventId).kind());
+    }
+}
@@ -0,0 +1,92 @@
+package com.infonest.service;
+
+import com.infonest.dto.CacheRegionStats;
+import com.infonest.model.Club;
+import com.infonest.model.User;
+import com.infonest.repository.ClubRepository;
+import com.infonest.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SecondLevelCacheStats secondLevelCacheStats;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void clubExistenceChecksStopHittingTheDatabaseOnceCached() {
+        clubRepository.save(new Club("L2_CLUB", "Second level cache club", null));
+        entityManagerFactory.getCache().evictAll();
+
+        long cold = statementsFor(() -> assertTrue(clubRepository.existsById("L2_CLUB")));
+        long warm = statementsFor(() -> {
+            for (int i = 0; i < REQUESTS; i++) {
+                assertTrue(clubRepository.existsById("L2_CLUB"));
+            }
+        });
+
+        assertEquals(1, cold);
+        assertEquals(0, warm);
+        assertFalse(clubRepository.existsById("NO_SUCH_L2_CLUB"));
+
+        CacheRegionStats club = secondLevelCacheStats.regions().stream()
+                .filter(region -> region.getRegion().endsWith("club"))
+                .findFirst().orElseThrow();
+        assertTrue(club.getHits() >= REQUESTS);
+    }
+
+    @Test
+    void emailLookupsResolveThroughTheNaturalIdCache() {
+        User user = new User();
+        user.setFirstName("Cached");
+        user.setLastName("Login");
+        user.setEmail("cached-login@gmail.com");
+        user.setRole("STUDENT");
+        user.setPassword("not-a-real-hash");
+        Long userId = userRepository.save(user).getUserId();
+        entityManagerFactory.getCache().evictAll();
+
+        long cold = statementsFor(() ->
+                assertEquals(userId, userRepository.findByEmail("cached-login@gmail.com").orElseThrow().getUserId()));
+        long warm = statementsFor(() -> {
+            for (int i = 0; i < REQUESTS; i++) {
+                assertEquals("STUDENT", userRepository.findByEmail("cached-login@gmail.com").orElseThrow().getRole());
+            }
+        });
+
+        assertTrue(cold >= 1);
+        assertEquals(0, warm);
+        assertTrue(userRepository.findByEmail("nobody-cached@gmail.com").isEmpty());
+        assertTrue(userRepository.findByEmail(null).isEmpty());
+    }
+
+    // Ek "request" mein kitne SQL statements prepare hue
+    private long statementsFor(Runnable request) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        request.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
@@ -0,0 +1,140 @@
+package com.infonest.service;
+
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SubmissionExportServiceTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private SubmissionExportService submissionExportService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void csvFlattensFormDataIntoColumns() throws Exception {
+        Long eventId = fixtures.event("EXPORT_CLUB");
+        fixtures.register(eventId, fixtures.user("asha.export@test.com", "Asha"), "{\"year\":2,\"skills\":{\"primary\":\"java\"},\"why\":\"I like code, a lot\"}");
+        fixtures.register(eventId, fixtures.user("ravi.export@test.com", "Ravi"), "{\"year\":3,\"portfolio\":\"=HYPERLINK(x)\"}");
+        fixtures.register(eventId, fixtures.user("neha.export@test.com", "Neha"), "not json");
+
+        List<String> lines = export("EXPORT_CLUB", SubmissionExportService.Format.CSV);
+
+        assertEquals(4, lines.size());
+        assertEquals("reg_id,event_id,event_name,user_id,first_name,last_name,email,status,submission_date,"
+                + "form.year,form.skills.primary,form.why,form.portfolio,form_data", lines.get(0));
+        assertTrue(lines.get(1).contains(",Asha,"));
+        assertTrue(lines.get(1).endsWith(",2,java,\"I like code, a lot\",,"));
+        // Formula injection se bachao
+        assertTrue(lines.get(2).endsWith(",3,,,'=HYPERLINK(x),"));
+        assertTrue(lines.get(3).endsWith(",,,,,not json"));
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLineWithFormAnswersNested() throws Exception {
+        Long eventId = fixtures.event("NDJSON_CLUB");
+        fixtures.register(eventId, fixtures.user("kiran.export@test.com", "Kiran"), "{\"team\":{\"size\":4},\"tags\":[\"ml\",\"web\"]}");
+        fixtures.register(eventId, fixtures.user("meera.export@test.com", "Meera"), null);
+
+        List<String> lines = export("NDJSON_CLUB", SubmissionExportService.Format.NDJSON);
+
+        assertEquals(2, lines.size());
+        JsonNode first = jsonMapper.readTree(lines.get(0));
+        assertEquals("Kiran", first.get("first_name").asString());
+        assertEquals("4", first.get("form").get("team.size").asString());
+        assertEquals("[\"ml\",\"web\"]", first.get("form").get("tags").asString());
+        JsonNode second = jsonMapper.readTree(lines.get(1));
+        assertEquals("APPLIED", second.get("status").asString());
+        assertFalse(second.has("form"));
+    }
+
+    @Test
+    void formFieldsNamedLikeFixedColumnsDoNotOverwriteThem() throws Exception {
+        Long eventId = fixtures.event("COLLIDE_CLUB");
+        fixtures.register(eventId, fixtures.user("tara.export@test.com", "Tara"),
+                "{\"status\":\"APPROVED\",\"email\":\"spoof@x.com\",\"reg_id\":\"0\",\"form_data\":\"f\"}");
+        fixtures.register(eventId, fixtures.user("dev.export@test.com", "Dev"), "legacy text");
+
+        List<String> csv = export("COLLIDE_CLUB", SubmissionExportService.Format.CSV);
+        List<String> header = List.of(csv.get(0).split(","));
+        assertEquals(header.size(), Set.copyOf(header).size());
+        assertEquals(List.of("form.status", "form.email", "form.reg_id", "form.form_data", "form_data"),
+                header.subList(9, header.size()));
+        assertTrue(csv.get(1).contains(",tara.export@test.com,APPLIED,"));
+        assertTrue(csv.get(1).endsWith(",APPROVED,spoof@x.com,0,f,"));
+        assertTrue(csv.get(2).endsWith(",,,,,legacy text"));
+
+        List<String> ndjson = export("COLLIDE_CLUB", SubmissionExportService.Format.NDJSON);
+        JsonNode first = jsonMapper.readTree(ndjson.get(0));
+        assertEquals("APPLIED", first.get("status").asString());
+        assertEquals("tara.export@test.com", first.get("email").asString());
+        assertEquals("APPROVED", first.get("form").get("status").asString());
+        assertEquals("spoof@x.com", first.get("form").get("email").asString());
+        assertEquals("legacy text", jsonMapper.readTree(ndjson.get(1)).get("form_data").asString());
+    }
+
+    @Test
+    void concurrentExportsAreBounded() throws Exception {
+        StreamingResponseBody first = submissionExportService.openExport("NO_CLUB", null, null, SubmissionExportService.Format.CSV);
+        StreamingResponseBody second = submissionExportService.openExport("NO_CLUB", null, null, SubmissionExportService.Format.CSV);
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(submissionExportService.openExport("NO_CLUB", null, null, SubmissionExportService.Format.CSV));
+
+        // Export poora hote hi permit wapas
+        first.writeTo(new ByteArrayOutputStream());
+        second.writeTo(new ByteArrayOutputStream());
+        StreamingResponseBody third = submissionExportService.openExport("NO_CLUB", null, null, SubmissionExportService.Format.CSV);
+        assertNotNull(third);
+        third.writeTo(new ByteArrayOutputStream());
+    }
+
+    @Test
+    void permitComesBackWhenTheBodyNeverRuns() {
+        // Client async dispatch se pehle chala gaya - sirf completion callback chalta hai
+        for (int i = 0; i < 5; i++) {
+            SubmissionExportService.Export abandoned = submissionExportService.openExport("NO_CLUB", null, null,
+                    SubmissionExportService.Format.CSV);
+            assertNotNull(abandoned);
+            abandoned.release();
+            abandoned.release();
+        }
+
+        // Double release se extra permits nahi bane - limit (2) wahi
+        SubmissionExportService.Export first = submissionExportService.openExport("NO_CLUB", null, null, SubmissionExportService.Format.CSV);
+        SubmissionExportService.Export second = submissionExportService.openExport("NO_CLUB", null, null, SubmissionExportService.Format.CSV);
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(submissionExportService.openExport("NO_CLUB", null, null, SubmissionExportService.Format.CSV));
+        first.release();
+        second.release();
+    }
+
+    private List<String> export(String clubId, SubmissionExportService.Format format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        submissionExportService.write(clubId, null, null, format, out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
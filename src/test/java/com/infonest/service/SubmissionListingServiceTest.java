@@ -0,0 +1,100 @@
+package com.infonest.service;
+
+import com.infonest.dto.RegistrationFormData;
+import com.infonest.dto.RegistrationSummary;
+import com.infonest.dto.SubmissionPage;
+import com.infonest.repository.RegistrationRepository;
+import com.infonest.support.RegistrationFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SubmissionListingServiceTest {
+
+    @Autowired
+    private RegistrationFixtures fixtures;
+
+    @Autowired
+    private SubmissionListingService submissionListingService;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Test
+    void pagesWalkEveryClubSubmissionNewestFirstWithoutFormData() {
+        Long quiz = fixtures.event("PAGING_CLUB", "Quiz", null);
+        Long hackathon = fixtures.event("PAGING_CLUB", "Hackathon", null);
+        Long otherClubEvent = fixtures.event("OTHER_PAGING_CLUB", "Debate", null);
+        for (long userId = 1; userId <= 12; userId++) {
+            fixtures.register(userId % 2 == 0 ? quiz : hackathon, 7000 + userId, "{\"answer\":" + userId + "}");
+        }
+        fixtures.register(otherClubEvent, 7100L, null);
+
+        List<RegistrationSummary> seen = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        do {
+            SubmissionPage page = submissionListingService.listSubmissions("PAGING_CLUB", null, null, cursor, 5);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(12, seen.size());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).getRegId() > seen.get(i).getRegId());
+        }
+        assertTrue(seen.stream().allMatch(RegistrationSummary::getHasFormData));
+        assertTrue(seen.stream().noneMatch(s -> s.getEventId().equals(otherClubEvent)));
+        assertEquals("Quiz", seen.stream().filter(s -> s.getEventId().equals(quiz)).findFirst().orElseThrow().getEventName());
+    }
+
+    @Test
+    void eventAndStatusFiltersNarrowTheList() {
+        Long workshop = fixtures.event("FILTER_CLUB", "Workshop", null);
+        Long talk = fixtures.event("FILTER_CLUB", "Talk", null);
+        Long approved = fixtures.register(workshop, 7201L, null);
+        fixtures.register(workshop, 7202L, null);
+        fixtures.register(talk, 7203L, null);
+        registrationService.updateStatus(approved, EventStatsService.APPROVED);
+
+        SubmissionPage workshopOnly = submissionListingService.listSubmissions("FILTER_CLUB", workshop, null, null, null);
+        assertEquals(2, workshopOnly.getItems().size());
+        assertNull(workshopOnly.getNextCursor());
+
+        SubmissionPage approvedOnly = submissionListingService.listSubmissions("FILTER_CLUB", workshop, "approved", null, null);
+        assertEquals(1, approvedOnly.getItems().size());
+        assertEquals(approved, approvedOnly.getItems().get(0).getRegId());
+        assertFalse(approvedOnly.getItems().get(0).getHasFormData());
+
+        // Doosre club ka eventId filter mein dene se kuch leak nahi hota
+        assertTrue(submissionListingService.listSubmissions("OTHER_FILTER_CLUB", workshop, null, null, null)
+                .getItems().isEmpty());
+    }
+
+    @Test
+    void formDataCarriesOwningClubForTheAccessCheck() {
+        Long eventId = fixtures.event("FORM_OWNER_CLUB", "Auditions", null);
+        Long regId = fixtures.register(eventId, 7301L, "{\"instrument\":\"guitar\"}");
+
+        RegistrationFormData formData = registrationRepository.findFormData(regId).orElseThrow();
+        assertEquals("FORM_OWNER_CLUB", formData.getClubId());
+        assertEquals("{\"instrument\":\"guitar\"}", formData.getFormData());
+        assertTrue(registrationRepository.findFormData(-1L).isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package com.infonest.support;
+
+import com.infonest.model.Event;
+import com.infonest.model.Registration;
+import com.infonest.model.User;
+import com.infonest.repository.EventRepository;
+import com.infonest.repository.RegistrationRepository;
+import com.infonest.repository.UserRepository;
+import com.infonest.service.RegistrationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Service tests ke liye events / users / registrations banane ka ek hi jagah wala fixture.
+ * Registrations asli RegistrationService.register() se bante hain, taaki event_stats aur seat counters
+ * production jaise hi chalein; formData seedha row par likha jaata hai (queue / answers index bypass).
+ */
+@Component
+public class RegistrationFixtures {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    public Long event(String clubId) {
+        return event(clubId, clubId + " event", null);
+    }
+
+    // capacity null = unlimited
+    public Long event(String clubId, Integer capacity) {
+        return event(clubId, clubId + " event", capacity);
+    }
+
+    public Long event(String clubId, String name, Integer capacity) {
+        Event event = new Event();
+        event.setClubId(clubId);
+        event.setEventName(name);
+        event.setEventDate(LocalDate.now().plusDays(7));
+        event.setCapacity(capacity);
+        return eventRepository.save(event).getEventId();
+    }
+
+    public Long user(String email, String firstName) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFirstName(firstName);
+        user.setLastName("Tester");
+        user.setPassword("x");
+        user.setRole("STUDENT");
+        return userRepository.save(user).getUserId();
+    }
+
+    public Long register(Long eventId, Long userId) {
+        Registration registration = new Registration();
+        registration.setEventId(eventId);
+        registration.setUserId(userId);
+        return registrationService.register(registration).registration().getRegId();
+    }
+
+    public Long register(Long eventId, Long userId, String formData) {
+        Long regId = register(eventId, userId);
+        if (formData != null) {
+            Registration stored = registrationRepository.findById(regId).orElseThrow();
+            stored.setFormData(formData);
+            registrationRepository.save(stored);
+        }
+        return regId;
+    }
+
+    public String statusOf(Long regId) {
+        return registrationRepository.findById(regId).orElseThrow().getStatus();
+    }
+}